@@ -0,0 +1,225 @@
+#!/usr/bin/env python3
+"""
+Export the trained stress classifier for the Java backend.
+
+Writes the StandardScaler parameters and every tree of the RandomForestClassifier as flat
+big-endian arrays (read by StressClassifier.java), plus a CSV of Python predictions the
+Java parity test compares against. Both must come from the scikit-learn version pinned in
+requirements.txt; the script refuses to run under any other. Re-run after retraining:
+
+    pip install -r requirements.txt
+    python export_model.py
+
+and check that the committed files match what the pinned model produces:
+
+    python export_model.py --check
+"""
+
+import argparse
+import csv
+import filecmp
+import hashlib
+import os
+import random
+import re
+import struct
+import sys
+import tempfile
+import warnings
+import zlib
+
+import joblib
+
+from models.pss10_questions import calculate_pss10_score
+
+MAGIC = 0x50535331  # "PSS1"
+FORMAT_VERSION = 1
+LEAF = -1
+
+BACKEND_RESOURCES = os.path.join(os.path.dirname(__file__), "..", "..", "backend", "AldebaranHealth", "src")
+DEFAULT_MODEL_OUTPUT = os.path.join(BACKEND_RESOURCES, "main", "resources", "models", "stress-classifier.bin")
+DEFAULT_PARITY_OUTPUT = os.path.join(BACKEND_RESOURCES, "test", "resources", "stress", "pss10-parity.csv")
+REQUIREMENTS = os.path.join(os.path.dirname(__file__), "requirements.txt")
+
+
+def pinned_sklearn_version():
+    with open(REQUIREMENTS) as f:
+        for line in f:
+            match = re.match(r"\s*scikit-learn==([\w.]+)", line)
+            if match:
+                return match.group(1)
+    sys.exit(f"❌ No scikit-learn pin found in {REQUIREMENTS}")
+
+
+def require_pinned_sklearn():
+    """Exports from any other version would not match how the Flask service predicts"""
+    import sklearn
+    from sklearn.exceptions import InconsistentVersionWarning
+
+    pinned = pinned_sklearn_version()
+    if sklearn.__version__ != pinned:
+        sys.exit(f"❌ scikit-learn {sklearn.__version__} is installed, export needs the pinned {pinned} (pip install -r requirements.txt)")
+
+    # The pickle must have been trained under the same version, not silently upgraded on load
+    warnings.simplefilter("error", InconsistentVersionWarning)
+    return sklearn.__version__
+
+
+def sha256(path):
+    with open(path, "rb") as f:
+        return hashlib.sha256(f.read()).hexdigest()
+
+
+def write_provenance(model_path, output, parity_output, sklearn_version, samples, seed):
+    """Records what produced the export, next to the .bin"""
+    path = os.path.splitext(output)[0] + ".provenance"
+    with open(path, "w") as f:
+        f.write("generator=export_model.py\n")
+        f.write(f"sklearn.version={sklearn_version}\n")
+        f.write(f"source.sha256={sha256(model_path)}\n")
+        f.write(f"model.sha256={sha256(output)}\n")
+        f.write(f"parity.sha256={sha256(parity_output)}\n")
+        f.write(f"parity.samples={samples}\n")
+        f.write(f"parity.seed={seed}\n")
+    return path
+
+
+def build_features(responses):
+    """Same 14-feature vector as StressAnalyzer.predict_stress"""
+    pss10_data = calculate_pss10_score(responses)
+    return responses + [
+        sum(responses),
+        pss10_data["total_score"],
+        sum(1 for r in responses if r >= 3),
+        sum(1 for r in responses if r <= 1),
+    ]
+
+
+def write_model(model, scaler, path):
+    """
+    Layout (big-endian, matches DataInputStream):
+        int magic, int version, int features, int classes, int trees, int nodes, int leafValues
+        classes as modified UTF-8 (DataOutputStream.writeUTF)
+        double[features] mean, double[features] scale
+        int[trees] root node
+        int[nodes] feature (-1 for leaves), double[nodes] threshold,
+        int[nodes] left (leaves: offset into leafValues), int[nodes] right
+        double[leafValues] per-leaf class probabilities, already normalized per tree
+        long CRC32 of everything before it
+    """
+    classes = [str(c) for c in model.classes_]
+    n_features = len(scaler.mean_)
+
+    roots, features, thresholds, lefts, rights, leaf_values = [], [], [], [], [], []
+    for estimator in model.estimators_:
+        tree = estimator.tree_
+        base = len(features)
+        roots.append(base)
+
+        for node in range(tree.node_count):
+            left, right = int(tree.children_left[node]), int(tree.children_right[node])
+            if left == right:
+                # sklearn normalizes leaf counts per tree in predict_proba, do it once here
+                counts = [float(v) for v in tree.value[node][0]]
+                total = sum(counts) or 1.0
+                features.append(LEAF)
+                thresholds.append(0.0)
+                lefts.append(len(leaf_values))
+                rights.append(LEAF)
+                leaf_values.extend(c / total for c in counts)
+            else:
+                features.append(int(tree.feature[node]))
+                thresholds.append(float(tree.threshold[node]))
+                lefts.append(base + left)
+                rights.append(base + right)
+
+    out = bytearray()
+    out += struct.pack(">7i", MAGIC, FORMAT_VERSION, n_features, len(classes), len(roots), len(features), len(leaf_values))
+    for name in classes:
+        encoded = name.encode("utf-8")
+        out += struct.pack(">H", len(encoded)) + encoded
+    out += struct.pack(f">{n_features}d", *[float(v) for v in scaler.mean_])
+    out += struct.pack(f">{n_features}d", *[float(v) for v in scaler.scale_])
+    out += struct.pack(f">{len(roots)}i", *roots)
+    out += struct.pack(f">{len(features)}i", *features)
+    out += struct.pack(f">{len(thresholds)}d", *thresholds)
+    out += struct.pack(f">{len(lefts)}i", *lefts)
+    out += struct.pack(f">{len(rights)}i", *rights)
+    out += struct.pack(f">{len(leaf_values)}d", *leaf_values)
+    out += struct.pack(">q", zlib.crc32(out))
+
+    os.makedirs(os.path.dirname(path), exist_ok=True)
+    with open(path, "wb") as f:
+        f.write(out)
+    print(f"💾 Exported {len(roots)} trees, {len(features)} nodes ({len(out)} bytes) to {path}")
+
+
+def parity_vectors(samples, seed):
+    """Edge cases, every score boundary, then random answer vectors"""
+    vectors = [[0] * 10, [4] * 10, [2] * 10, [0, 0, 0, 4, 4, 0, 4, 4, 0, 0], [4, 4, 4, 0, 0, 4, 0, 0, 4, 4]]
+    rng = random.Random(seed)
+    boundaries = {12, 13, 14, 15, 25, 26, 27, 28}
+    while boundaries:
+        responses = [rng.randint(0, 4) for _ in range(10)]
+        score = calculate_pss10_score(responses)["total_score"]
+        if score in boundaries:
+            boundaries.discard(score)
+            vectors.append(responses)
+    vectors.extend([rng.randint(0, 4) for _ in range(10)] for _ in range(samples))
+    return vectors
+
+
+def write_parity(model, scaler, path, samples, seed):
+    classes = [str(c) for c in model.classes_]
+    rows = []
+    for responses in parity_vectors(samples, seed):
+        pss10_data = calculate_pss10_score(responses)
+        probabilities = [float(p) for p in model.predict_proba(scaler.transform([build_features(responses)]))[0]]
+        predicted = classes[max(range(len(classes)), key=lambda i: (probabilities[i], -i))]
+        rows.append(responses + [pss10_data["total_score"], pss10_data["stress_level"], predicted] + [repr(p) for p in probabilities])
+
+    os.makedirs(os.path.dirname(path), exist_ok=True)
+    with open(path, "w", newline="") as f:
+        writer = csv.writer(f)
+        writer.writerow([f"q{i + 1}" for i in range(10)] + ["pss10_score", "stress_level", "predicted_level"] + [f"p_{c}" for c in classes])
+        writer.writerows(rows)
+    print(f"🧪 Wrote {len(rows)} parity cases to {path}")
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("--model", default="trained_models/stress_classifier.pkl")
+    parser.add_argument("--output", default=DEFAULT_MODEL_OUTPUT)
+    parser.add_argument("--parity-output", default=DEFAULT_PARITY_OUTPUT)
+    parser.add_argument("--parity-samples", type=int, default=2000)
+    parser.add_argument("--seed", type=int, default=42)
+    parser.add_argument("--check", action="store_true", help="regenerate into a temp dir and fail if the committed files differ")
+    args = parser.parse_args()
+
+    sklearn_version = require_pinned_sklearn()
+    model_data = joblib.load(args.model)
+
+    if args.check:
+        with tempfile.TemporaryDirectory() as tmp:
+            output = os.path.join(tmp, os.path.basename(args.output))
+            parity_output = os.path.join(tmp, os.path.basename(args.parity_output))
+            write_model(model_data["model"], model_data["scaler"], output)
+            write_parity(model_data["model"], model_data["scaler"], parity_output, args.parity_samples, args.seed)
+            provenance = write_provenance(args.model, output, parity_output, sklearn_version, args.parity_samples, args.seed)
+
+            committed = {output: args.output, parity_output: args.parity_output,
+                         provenance: os.path.splitext(args.output)[0] + ".provenance"}
+            stale = [path for generated, path in committed.items()
+                     if not os.path.exists(path) or not filecmp.cmp(generated, path, shallow=False)]
+        if stale:
+            sys.exit("❌ Out of date, re-run export_model.py: " + ", ".join(stale))
+        print("✅ Committed export matches the pinned model")
+        return
+
+    write_model(model_data["model"], model_data["scaler"], args.output)
+    write_parity(model_data["model"], model_data["scaler"], args.parity_output, args.parity_samples, args.seed)
+    print(f"📝 Wrote {write_provenance(args.model, args.output, args.parity_output, sklearn_version, args.parity_samples, args.seed)}")
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,260 @@
+package com.aldebaran.AldebaranHealth.benchmark;
+
+import com.aldebaran.AldebaranHealth.dto.request.ConversationImportRequest;
+import com.aldebaran.AldebaranHealth.dto.request.MessageImportRequest;
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.model.UserCacheInvalidationListener;
+import com.aldebaran.AldebaranHealth.repository.UserRepo;
+import com.aldebaran.AldebaranHealth.service.BulkImportService;
+import com.aldebaran.AldebaranHealth.service.ResourceVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.resource.beans.container.spi.BeanContainer;
+import org.hibernate.resource.beans.container.spi.ContainedBean;
+import org.hibernate.resource.beans.spi.BeanInstanceProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares insert throughput (rows/sec) of the old mapping, IDENTITY keys with one INSERT
+ * per row, against pooled sequence keys with JDBC batching through BulkImportService.
+ * Runs against in-memory H2 in a "bulk_insert_bench" schema by default; point it at
+ * Postgres with -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.user and -Dbenchmark.jdbc.password.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final String BENCH_SCHEMA = "bulk_insert_bench";
+    private static final int CONVERSATIONS = 20;
+    private static final int MESSAGES_PER_CONVERSATION = 50;
+    private static final int ROWS = CONVERSATIONS * (MESSAGES_PER_CONVERSATION + 1);
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private BulkImportService bulkImportService;
+    private List<ConversationImportRequest> importRequests;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Conversation.class)
+                .addAnnotatedClass(Message.class)
+                .addAnnotatedClass(LegacyConversation.class)
+                .addAnnotatedClass(LegacyMessage.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:bulk_insert_bench;DB_CLOSE_DELAY=-1"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("benchmark.jdbc.user", "sa"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("benchmark.jdbc.password", ""))
+                .setProperty(AvailableSettings.DEFAULT_SCHEMA, BENCH_SCHEMA)
+                .setProperty(AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, "true")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.ORDER_UPDATES, "true")
+                .setProperty(AvailableSettings.SHOW_SQL, "false")
+                .setProperty(AvailableSettings.POOL_SIZE, "2");
+        configuration.getProperties().put(AvailableSettings.BEAN_CONTAINER, new ListenerBeanContainer());
+        sessionFactory = configuration.buildSessionFactory();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(sessionFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(sessionFactory));
+        UserRepo userRepo = new JpaRepositoryFactory(entityManager).getRepository(UserRepo.class);
+        bulkImportService = new BulkImportService(userRepo, entityManager, new ResourceVersionService(new SimpleMeterRegistry(), 1000));
+
+        user = new User();
+        user.setUserName("importer");
+        user.setEmail("importer@aldebaran.health");
+        user.setPassword("hash");
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(user));
+
+        importRequests = new ArrayList<>();
+        for (int c = 0; c < CONVERSATIONS; c++) {
+            List<MessageImportRequest> messages = new ArrayList<>();
+            for (int m = 0; m < MESSAGES_PER_CONVERSATION; m++) {
+                messages.add(new MessageImportRequest("Imported message " + m + " of conversation " + c + ", how are you sleeping this week?",
+                        m % 2 == 0 ? SenderType.USER : SenderType.AI, new Date(1_700_000_000_000L + m)));
+            }
+            importRequests.add(new ConversationImportRequest(user.getUserId(), "Imported " + c, SessionType.DOCTOR, new Date(), messages));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Message").executeUpdate();
+            entityManager.createQuery("DELETE FROM Conversation").executeUpdate();
+            entityManager.createQuery("DELETE FROM LegacyMessage").executeUpdate();
+            entityManager.createQuery("DELETE FROM LegacyConversation").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityPerRowInsert() {
+        return transactionTemplate.execute(status -> {
+            long rows = 0;
+            int pendingRows = 0;
+            for (ConversationImportRequest conversationRequest : importRequests) {
+                LegacyConversation conversation = new LegacyConversation();
+                conversation.user = entityManager.getReference(User.class, conversationRequest.getUserId());
+                conversation.name = conversationRequest.getName();
+                conversation.sessionType = conversationRequest.getSessionType();
+                conversation.createdAt = conversationRequest.getCreatedAt();
+                entityManager.persist(conversation);
+                rows++;
+                pendingRows++;
+
+                for (MessageImportRequest messageRequest : conversationRequest.getMessages()) {
+                    LegacyMessage message = new LegacyMessage();
+                    message.conversation = conversation;
+                    message.content = messageRequest.getContent();
+                    message.senderType = messageRequest.getSenderType();
+                    message.createdAt = messageRequest.getCreatedAt();
+                    entityManager.persist(message);
+                    rows++;
+                    pendingRows++;
+                }
+
+                if (pendingRows >= FLUSH_EVERY_ROWS) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    pendingRows = 0;
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return rows;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledBatchedImport() {
+        return transactionTemplate.execute(status -> {
+            var response = bulkImportService.importConversations(importRequests);
+            return response.getConversationsImported() + response.getMessagesImported();
+        });
+    }
+
+    @Entity(name = "LegacyConversation")
+    @Table(name = "legacy_conversation")
+    public static class LegacyConversation {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "conversation_id")
+        Long conversationId;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "user_id", nullable = false)
+        User user;
+
+        @Column(name = "name")
+        String name;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "session_type")
+        SessionType sessionType;
+
+        @Column(name = "created_at")
+        Date createdAt;
+    }
+
+    @Entity(name = "LegacyMessage")
+    @Table(name = "legacy_message")
+    public static class LegacyMessage {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "message_id")
+        Long messageId;
+
+        @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+        String content;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "sender_type")
+        SenderType senderType;
+
+        @Column(name = "created_at")
+        Date createdAt;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "conversation_id", nullable = false)
+        LegacyConversation conversation;
+    }
+
+    /**
+     * The user cache listener is a Spring component; without a Spring context Hibernate
+     * cannot construct it, and it never fires on inserts anyway.
+     */
+    private static class ListenerBeanContainer implements BeanContainer {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B> ContainedBean<B> getBean(Class<B> beanType, LifecycleOptions lifecycleOptions, BeanInstanceProducer fallbackProducer) {
+            B bean = beanType == UserCacheInvalidationListener.class
+                    ? (B) new UserCacheInvalidationListener(null)
+                    : fallbackProducer.produceBeanInstance(beanType);
+            return () -> bean;
+        }
+
+        @Override
+        public <B> ContainedBean<B> getBean(String name, Class<B> beanType, LifecycleOptions lifecycleOptions, BeanInstanceProducer fallbackProducer) {
+            B bean = fallbackProducer.produceBeanInstance(name, beanType);
+            return () -> bean;
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
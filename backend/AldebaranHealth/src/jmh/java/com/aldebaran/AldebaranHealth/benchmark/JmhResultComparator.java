@@ -0,0 +1,95 @@
+package com.aldebaran.AldebaranHealth.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Diffs two JMH JSON result files (-rf json) and fails when any benchmark present in both
+ * got slower than the threshold allows. Throughput scores regress when they drop, all other
+ * modes when they rise. Missing baselines are skipped so a first run never fails.
+ *
+ * <pre>java JmhResultComparator baseline.json current.json [threshold]</pre>
+ */
+public class JmhResultComparator {
+
+    private static final String BENCHMARK_PACKAGE = JmhResultComparator.class.getPackageName() + ".";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhResultComparator <baseline.json> <current.json> [threshold]");
+            System.exit(2);
+        }
+
+        Path baselinePath = Path.of(args[0]);
+        Path currentPath = Path.of(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+
+        if (!Files.exists(baselinePath)) {
+            System.out.println("No JMH baseline at " + baselinePath + ", skipping comparison");
+            return;
+        }
+
+        Map<String, Result> baseline = read(baselinePath);
+        Map<String, Result> current = read(currentPath);
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", after.score(), "new");
+                continue;
+            }
+
+            double change = (after.score() - before.score()) / before.score();
+            boolean regressed = after.higherIsBetter() ? change < -threshold : change > threshold;
+            if (regressed) {
+                regressions++;
+            }
+
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score(), after.score(),
+                    change * 100, regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions, threshold * 100);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path path) throws IOException {
+        Map<String, Result> results = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(path.toFile())) {
+            String mode = run.path("mode").asText();
+            JsonNode metric = run.path("primaryMetric");
+            String key = run.path("benchmark").asText().replace(BENCHMARK_PACKAGE, "") + params(run.path("params")) + " (" + mode + ", " + metric.path("scoreUnit").asText() + ")";
+            results.put(key, new Result(metric.path("score").asDouble(), "thrpt".equals(mode)));
+        }
+        return results;
+    }
+
+    private static String params(JsonNode params) {
+        if (params.isMissingNode() || params.isEmpty()) {
+            return "";
+        }
+
+        Map<String, String> sorted = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            sorted.put(field.getKey(), field.getValue().asText());
+        }
+        return sorted.toString();
+    }
+
+    private record Result(double score, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.aldebaran.AldebaranHealth.benchmark;
+
+import com.aldebaran.AldebaranHealth.config.JwtAuthenticationFilter;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.service.JwtService;
+import com.aldebaran.AldebaranHealth.service.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    static final String SECRET_KEY = "dGhpcy1pcy1hLWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1obWFjLXNoYTI1Ng==";
+
+    private String jwtToken;
+    private User user;
+    private JwtService jwtService;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setUserId(1L);
+        user.setUserName("benchmark");
+        user.setEmail("benchmark@aldebaran.health");
+        user.setPassword("password");
+
+        jwtService = new JwtService(SECRET_KEY, 86400000L, 10000);
+        jwtToken = jwtService.generateJwtToken(user);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserPrincipalCache userPrincipalCache = new UserPrincipalCache(username -> Optional.of(user), meterRegistry, 10000, Duration.ofMinutes(5));
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, userPrincipalCache, meterRegistry);
+    }
+
+    @Benchmark
+    public String buildToken() {
+        return jwtService.generateJwtToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyTokenValidation() {
+        String userName = legacyExtractClaims(jwtToken).getSubject();
+        UserDetails userDetails = user;
+
+        return userDetails.getUsername().equals(userName)
+                && userDetails.getUsername().equals(legacyExtractClaims(jwtToken).getSubject())
+                && !legacyExtractClaims(jwtToken).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParseTokenValidation() {
+        Claims claims = jwtService.verifyToken(jwtToken);
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public boolean uncachedSingleParseTokenValidation() {
+        Claims claims = jwtService.extractAllClaims(jwtToken);
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public Object filterPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/conversation");
+        request.addHeader("Authorization", "Bearer " + jwtToken);
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+
+        return authentication;
+    }
+
+    private Claims legacyExtractClaims(String token) {
+        SecretKey signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+
+        return Jwts.parser()
+                .verifyWith(signingKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
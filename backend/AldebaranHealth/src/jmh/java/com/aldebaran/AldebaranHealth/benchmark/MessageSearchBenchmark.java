@@ -0,0 +1,134 @@
+package com.aldebaran.AldebaranHealth.benchmark;
+
+import com.aldebaran.AldebaranHealth.repository.MessageRepo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the message full-text search query against a generated corpus in a throwaway
+ * "message_search_bench" schema. Needs a reachable Postgres, configured with
+ * -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.user and -Dbenchmark.jdbc.password.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageSearchBenchmark {
+
+    private static final String BENCH_SCHEMA = "message_search_bench";
+    private static final int USERS = 1000;
+    private static final int MESSAGES_PER_CONVERSATION = 50;
+    private static final String[] QUERIES = {"sleep hygiene", "anxiety breathing", "\"panic attack\"", "headache -migraine", "exercise stress"};
+
+    @Param({"100000", "1000000"})
+    public int corpusSize;
+
+    private Connection connection;
+    private PreparedStatement searchStatement;
+    private List<String> parameterOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/aldebaran"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + BENCH_SCHEMA);
+            statement.execute("SET search_path TO " + BENCH_SCHEMA + ", public");
+            statement.execute("DROP TABLE IF EXISTS message, conversation");
+            statement.execute("CREATE TABLE conversation (conversation_id bigint PRIMARY KEY, user_id bigint NOT NULL, name varchar(255))");
+            statement.execute("CREATE TABLE message (message_id bigint PRIMARY KEY, conversation_id bigint NOT NULL, content text NOT NULL, " +
+                    "sender_type varchar(255), created_at timestamp(6), " +
+                    "content_tsv tsvector GENERATED ALWAYS AS (to_tsvector('english', content)) STORED)");
+
+            int conversations = Math.max(1, corpusSize / MESSAGES_PER_CONVERSATION);
+            statement.execute("INSERT INTO conversation SELECT g, (g % " + USERS + ") + 1, 'Conversation ' || g FROM generate_series(1, " + conversations + ") g");
+            statement.execute("INSERT INTO message (message_id, conversation_id, content, sender_type, created_at) " +
+                    "SELECT g, (g % " + conversations + ") + 1, " +
+                    "(SELECT string_agg(w.words[1 + floor(random() * array_length(w.words, 1))::int], ' ') " +
+                    "   FROM generate_series(1, 20 + (g % 40)) s, " +
+                    "   (SELECT ARRAY['sleep','hygiene','anxiety','breathing','panic','attack','headache','migraine','exercise','stress'," +
+                    "     'water','routine','doctor','therapy','mood','energy','diet','caffeine','screen','night','morning','walk'," +
+                    "     'journal','worry','work','family','pain','rest','meditation','focus','appetite','tired','calm','heart'] AS words) w), " +
+                    "CASE WHEN g % 2 = 0 THEN 'USER' ELSE 'AI' END, now() - (g || ' seconds')::interval " +
+                    "FROM generate_series(1, " + corpusSize + ") g");
+            statement.execute("CREATE INDEX idx_bench_message_content_tsv ON message USING gin (content_tsv)");
+            statement.execute("CREATE INDEX idx_bench_conversation_user ON conversation (user_id)");
+            statement.execute("CREATE INDEX idx_bench_message_conversation ON message (conversation_id)");
+            statement.execute("ANALYZE conversation");
+            statement.execute("ANALYZE message");
+        }
+
+        parameterOrder = new ArrayList<>();
+        Matcher matcher = Pattern.compile(":(\\w+)").matcher(MessageRepo.SEARCH_USER_MESSAGES_SQL);
+        StringBuilder jdbcSql = new StringBuilder();
+        while (matcher.find()) {
+            parameterOrder.add(matcher.group(1));
+            matcher.appendReplacement(jdbcSql, "?");
+        }
+        matcher.appendTail(jdbcSql);
+
+        searchStatement = connection.prepareStatement(jdbcSql.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + BENCH_SCHEMA + " CASCADE");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int searchUserMessages() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = random.nextInt(USERS) + 1;
+        String query = QUERIES[random.nextInt(QUERIES.length)];
+
+        for (int i = 0; i < parameterOrder.size(); i++) {
+            switch (parameterOrder.get(i)) {
+                case "userId" -> searchStatement.setLong(i + 1, userId);
+                case "query" -> searchStatement.setString(i + 1, query);
+                case "limit" -> searchStatement.setInt(i + 1, 20);
+                case "offset" -> searchStatement.setInt(i + 1, 0);
+                default -> throw new IllegalStateException("Unknown parameter " + parameterOrder.get(i));
+            }
+        }
+
+        int rows = 0;
+        try (ResultSet resultSet = searchStatement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,112 @@
+package com.aldebaran.AldebaranHealth.benchmark;
+
+import com.aldebaran.AldebaranHealth.dto.response.ConversationResponse;
+import com.aldebaran.AldebaranHealth.dto.response.MessagePageResponse;
+import com.aldebaran.AldebaranHealth.dto.response.MessageResponse;
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity-to-DTO mapping and Jackson serialization of message histories and conversation
+ * lists, using an ObjectMapper built the same way Spring Boot builds the MVC one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private static final String CONTENT = "I have been sleeping badly for two weeks and wake up around 3am with my heart racing. "
+            + "During the day I feel tired and on edge, and coffee only makes it worse. What can I try before seeing a doctor?";
+
+    @Param({"50", "1000", "10000"})
+    public int historySize;
+
+    private ObjectMapper objectMapper;
+    private List<Message> messages;
+    private List<Conversation> conversations;
+    private MessagePageResponse messagePage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Conversation conversation = conversation(1L);
+        messages = new ArrayList<>(historySize);
+        conversations = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            Message message = new Message();
+            message.setMessageId((long) i);
+            message.setContent(CONTENT);
+            message.setSenderType(i % 2 == 0 ? SenderType.USER : SenderType.AI);
+            message.setCreatedAt(new Date(1_700_000_000_000L + i * 1000L));
+            message.setConversation(conversation);
+            messages.add(message);
+            conversations.add(conversation(i));
+        }
+
+        messagePage = new MessagePageResponse(mapMessages(), "before", "after", false);
+    }
+
+    @Benchmark
+    public List<MessageResponse> mapMessages() {
+        return messages.stream()
+                .map(MessageResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ConversationResponse> mapConversations() {
+        return conversations.stream()
+                .map(ConversationResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeMessageHistory() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(messagePage);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeMessageHistory() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new MessagePageResponse(mapMessages(), "before", "after", false));
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeConversations() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapConversations());
+    }
+
+    private Conversation conversation(long conversationId) {
+        Conversation conversation = new Conversation();
+        conversation.setConversationId(conversationId);
+        conversation.setName("Trouble sleeping " + conversationId);
+        conversation.setSessionType(SessionType.DOCTOR);
+        conversation.setCreatedAt(new Date(1_700_000_000_000L + conversationId));
+        return conversation;
+    }
+}
@@ -0,0 +1,103 @@
+package com.aldebaran.AldebaranHealth.benchmark;
+
+import com.aldebaran.AldebaranHealth.service.StressClassifier;
+import com.aldebaran.AldebaranHealth.service.StressLookupTable;
+import com.aldebaran.AldebaranHealth.util.PSS10Scorer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one PSS-10 assessment in the JVM: scoring alone, scoring plus the random forest,
+ * and scoring plus a read from the precomputed lookup table. Answer vectors rotate through a pre-generated set so branch prediction does not
+ * learn a single path through the trees.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StressScoringBenchmark {
+
+    private static final int VECTORS = 4096;
+
+    private StressClassifier stressClassifier;
+    private int[][] responses;
+    private int[] features;
+    private double[] probabilities;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        stressClassifier = new StressClassifier(new ClassPathResource("models/stress-classifier.bin"));
+        features = new int[PSS10Scorer.FEATURE_COUNT];
+        probabilities = new double[stressClassifier.getClassCount()];
+
+        SplittableRandom random = new SplittableRandom(42);
+        responses = new int[VECTORS][PSS10Scorer.QUESTION_COUNT];
+        for (int[] vector : responses) {
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = random.nextInt(PSS10Scorer.MAX_RESPONSE + 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public int score() {
+        return PSS10Scorer.score(nextResponses());
+    }
+
+    @Benchmark
+    public int classify() {
+        int[] answers = nextResponses();
+        PSS10Scorer.features(answers, PSS10Scorer.score(answers), features);
+        return stressClassifier.predict(features, probabilities);
+    }
+
+    @Benchmark
+    public int lookup(LookupTableState state) {
+        int[] answers = nextResponses();
+        PSS10Scorer.score(answers);
+        return state.stressLookupTable.lookup(answers, probabilities);
+    }
+
+    private int[] nextResponses() {
+        next = (next + 1) & (VECTORS - 1);
+        return responses[next];
+    }
+
+    @State(Scope.Benchmark)
+    public static class LookupTableState {
+        private Path tablePath;
+        private StressLookupTable stressLookupTable;
+
+        @Setup
+        public void setUp() throws IOException {
+            StressClassifier stressClassifier = new StressClassifier(new ClassPathResource("models/stress-classifier.bin"));
+            tablePath = Files.createTempFile("stress-lookup", ".bin");
+            StressLookupTable.generate(stressClassifier, tablePath);
+            stressLookupTable = new StressLookupTable(tablePath.toString(), stressClassifier);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(tablePath);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.aldebaran.AldebaranHealth.loadtest;
+
+import com.aldebaran.AldebaranHealth.service.AIRequestHedger;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares end-to-end p99 with and without hedging against a local HTTP stub whose latency has a
+ * 3% straggler tail. Run it with {@code mvn -Ploadtest verify}; the unit behaviour of the hedger is
+ * covered by {@code AIRequestHedgerTest}.
+ */
+class AIRequestHedgerLoadTest {
+
+    private static final int REQUESTS = 400;
+    private static final int CLIENT_THREADS = 8;
+    private static final double SLOW_CALL_RATE = 0.03;
+    private static final double BUDGET_RATIO = 0.1;
+
+    private final Random latencyRandom = new Random(42);
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ExecutorService aiExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private HttpServer stubServer;
+    private URI stubUri;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.createContext("/generate", exchange -> {
+            sleep(sampleLatencyMillis());
+            byte[] body = "Take a deep breath.".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        stubServer.start();
+        stubUri = URI.create("http://localhost:" + stubServer.getAddress().getPort() + "/generate");
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        stubServer.stop(0);
+        aiExecutor.shutdownNow();
+    }
+
+    @Test
+    void hedgingCutsTailLatencyWithinBudget() throws Exception {
+        SimpleMeterRegistry unhedgedRegistry = new SimpleMeterRegistry();
+        long unhedgedP99 = p99Millis(new AIRequestHedger(aiExecutor, unhedgedRegistry, false, 0.95, 20, BUDGET_RATIO, Duration.ofMinutes(1)));
+
+        SimpleMeterRegistry hedgedRegistry = new SimpleMeterRegistry();
+        long hedgedP99 = p99Millis(new AIRequestHedger(aiExecutor, hedgedRegistry, true, 0.95, 20, BUDGET_RATIO, Duration.ofMinutes(1)));
+
+        double hedges = hedgedRegistry.counter("ai.hedge.fired").count();
+
+        assertEquals(0, unhedgedRegistry.counter("ai.hedge.fired").count());
+        assertTrue(hedgedP99 * 2 < unhedgedP99, "hedged p99 " + hedgedP99 + "ms vs unhedged " + unhedgedP99 + "ms");
+        assertTrue(hedges > 0);
+        assertTrue(hedges <= REQUESTS * BUDGET_RATIO + 1, "hedges fired " + hedges);
+    }
+
+    private long p99Millis(AIRequestHedger hedger) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+        List<Future<Long>> latencies = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            latencies.add(clients.submit(() -> {
+                long startTime = System.nanoTime();
+                hedger.execute(this::callStub);
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            }));
+        }
+
+        List<Long> sorted = new ArrayList<>();
+        for (Future<Long> latency : latencies) {
+            sorted.add(latency.get(30, TimeUnit.SECONDS));
+        }
+        clients.shutdown();
+
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    }
+
+    private String callStub() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(stubUri).GET().build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Cancelled", e);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Mostly 5-20ms with a 3% tail of 300ms+ stragglers, independent of load
+    private long sampleLatencyMillis() {
+        synchronized (latencyRandom) {
+            if (latencyRandom.nextDouble() < SLOW_CALL_RATE) {
+                return 300 + latencyRandom.nextInt(200);
+            }
+            return 5 + latencyRandom.nextInt(15);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
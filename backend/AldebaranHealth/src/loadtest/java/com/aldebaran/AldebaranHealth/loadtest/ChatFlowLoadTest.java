@@ -0,0 +1,233 @@
+package com.aldebaran.AldebaranHealth.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives signup, login, create conversation, send message and fetch history through the
+ * real HTTP stack, backed by in-memory H2 and the stub AI provider. Run it with
+ * {@code mvn -Ploadtest verify}, optionally with {@code -Dloadtest.scenario=path/to/scenario.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"ai-stub", "loadtest"})
+class ChatFlowLoadTest {
+
+    private static final String SIGNUP = "POST /signup";
+    private static final String LOGIN = "POST /login";
+    private static final String CREATE_CONVERSATION = "POST /conversation";
+    private static final String SEND_MESSAGE = "POST /conversation/{id}/messages";
+    private static final String FETCH_HISTORY = "GET /conversation/{id}/messages";
+
+    private static final LoadTestScenario scenario = loadScenario();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void stubAIProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.stub.mode", () -> "echo");
+        registry.add("ai.stub.latency.median", () -> scenario.aiStub().latencyMedian());
+        registry.add("ai.stub.latency.sigma", () -> scenario.aiStub().latencySigma());
+        registry.add("ai.stub.error-rate", () -> scenario.aiStub().errorRate());
+    }
+
+    @Test
+    void chatFlowMeetsScenarioThresholds() throws Exception {
+        runUsers("warmup", scenario.warmupUsers(), new LatencyRecorder());
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        long startTime = System.nanoTime();
+        runUsers("measured", scenario.virtualUsers(), recorder);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+        Map<String, LatencyRecorder.EndpointStats> stats = recorder.summarize(elapsedSeconds);
+        long totalRequests = stats.values().stream().mapToLong(LatencyRecorder.EndpointStats::requests).sum();
+        long totalErrors = stats.values().stream().mapToLong(LatencyRecorder.EndpointStats::errors).sum();
+        double throughput = totalRequests / elapsedSeconds;
+
+        printReport(stats, totalRequests, totalErrors, throughput, elapsedSeconds);
+        writeReport(stats, totalRequests, totalErrors, throughput, elapsedSeconds);
+
+        List<String> violations = checkThresholds(stats, totalRequests, totalErrors, throughput);
+        assertTrue(violations.isEmpty(), "Load test thresholds violated:\n" + String.join("\n", violations));
+    }
+
+    private void runUsers(String phase, int users, LatencyRecorder recorder) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(scenario.concurrency(), Thread.ofVirtual().name("loadtest-", 0).factory());
+        List<Future<?>> flows = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String email = "loadtest-" + runId + "-" + phase + "-" + i + "@aldebaran.health";
+            flows.add(workers.submit(() -> {
+                runChatFlow(email, recorder);
+                return null;
+            }));
+        }
+
+        for (Future<?> flow : flows) {
+            flow.get(10, TimeUnit.MINUTES);
+        }
+        workers.shutdown();
+    }
+
+    private void runChatFlow(String email, LatencyRecorder recorder) throws Exception {
+        String password = "load-test-password";
+
+        if (send(recorder, SIGNUP, post("/signup", Map.of("userName", "Load Tester", "email", email, "password", password), null), 201) == null) {
+            return;
+        }
+
+        JsonNode login = send(recorder, LOGIN, post("/login", Map.of("email", email, "password", password), null), 200);
+        if (login == null) {
+            return;
+        }
+        String jwtToken = login.path("jwtToken").asText();
+
+        JsonNode conversation = send(recorder, CREATE_CONVERSATION, post("/conversation", Map.of("title", "Load test " + email), jwtToken), 201);
+        if (conversation == null) {
+            return;
+        }
+        long conversationId = conversation.path("conversationId").asLong();
+        String messagesPath = "/conversation/" + conversationId + "/messages";
+
+        for (int turn = 0; turn < scenario.messagesPerUser(); turn++) {
+            String content = "Turn " + turn + " from " + email + ": I have been sleeping badly and feel anxious, what can I try?";
+            send(recorder, SEND_MESSAGE, post(messagesPath, Map.of("content", content), jwtToken), 201);
+
+            for (int fetch = 0; fetch < scenario.historyFetchesPerMessage(); fetch++) {
+                send(recorder, FETCH_HISTORY, get(messagesPath + "?limit=50", jwtToken), 200);
+            }
+        }
+    }
+
+    private JsonNode send(LatencyRecorder recorder, String endpoint, HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        long startTime = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - startTime, false);
+            return null;
+        }
+
+        boolean success = response.statusCode() == expectedStatus;
+        recorder.record(endpoint, System.nanoTime() - startTime, success);
+        if (!success) {
+            return null;
+        }
+        return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest post(String path, Map<String, String> body, String jwtToken) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        return authorize(builder, jwtToken).build();
+    }
+
+    private HttpRequest get(String path, String jwtToken) {
+        return authorize(HttpRequest.newBuilder(uri(path)).GET(), jwtToken).build();
+    }
+
+    private HttpRequest.Builder authorize(HttpRequest.Builder builder, String jwtToken) {
+        return jwtToken == null ? builder : builder.header("Authorization", "Bearer " + jwtToken);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private List<String> checkThresholds(Map<String, LatencyRecorder.EndpointStats> stats, long totalRequests, long totalErrors, double throughput) {
+        LoadTestScenario.Thresholds thresholds = scenario.thresholds();
+        List<String> violations = new ArrayList<>();
+
+        double errorRate = totalRequests == 0 ? 1 : (double) totalErrors / totalRequests;
+        if (errorRate > thresholds.maxErrorRate()) {
+            violations.add(String.format("error rate %.2f%% > %.2f%%", errorRate * 100, thresholds.maxErrorRate() * 100));
+        }
+        if (throughput < thresholds.minThroughput()) {
+            violations.add(String.format("throughput %.1f req/s < %.1f req/s", throughput, thresholds.minThroughput()));
+        }
+
+        thresholds.endpoints().forEach((endpoint, threshold) -> {
+            LatencyRecorder.EndpointStats endpointStats = stats.get(endpoint);
+            if (endpointStats == null) {
+                violations.add(endpoint + " was never called");
+                return;
+            }
+            checkPercentile(violations, endpoint, "p50", endpointStats.p50Ms(), threshold.p50Ms());
+            checkPercentile(violations, endpoint, "p95", endpointStats.p95Ms(), threshold.p95Ms());
+            checkPercentile(violations, endpoint, "p99", endpointStats.p99Ms(), threshold.p99Ms());
+        });
+        return violations;
+    }
+
+    private void checkPercentile(List<String> violations, String endpoint, String percentile, double actualMs, Long limitMs) {
+        if (limitMs != null && actualMs > limitMs) {
+            violations.add(String.format("%s %s %.1fms > %dms", endpoint, percentile, actualMs, limitMs));
+        }
+    }
+
+    private void printReport(Map<String, LatencyRecorder.EndpointStats> stats, long totalRequests, long totalErrors, double throughput, double elapsedSeconds) {
+        System.out.printf("%nLoad test '%s': %d users, concurrency %d, %.1fs%n", scenario.name(), scenario.virtualUsers(), scenario.concurrency(), elapsedSeconds);
+        System.out.printf("%-36s %8s %7s %9s %9s %9s %9s %9s%n", "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        stats.forEach((endpoint, endpointStats) -> System.out.printf("%-36s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", endpoint,
+                endpointStats.requests(), endpointStats.errors(), endpointStats.throughput(),
+                endpointStats.p50Ms(), endpointStats.p95Ms(), endpointStats.p99Ms(), endpointStats.maxMs()));
+        System.out.printf("%-36s %8d %7d %9.1f%n%n", "Total", totalRequests, totalErrors, throughput);
+    }
+
+    private void writeReport(Map<String, LatencyRecorder.EndpointStats> stats, long totalRequests, long totalErrors, double throughput, double elapsedSeconds) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", scenario);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("requests", totalRequests);
+        report.put("errors", totalErrors);
+        report.put("throughput", throughput);
+        report.put("endpoints", stats);
+
+        Path reportPath = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+    }
+
+    private static LoadTestScenario loadScenario() {
+        try {
+            return LoadTestScenario.load();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load load test scenario", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.aldebaran.AldebaranHealth.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects every request latency per endpoint so percentiles are exact rather than
+ * bucketed; a load test run is small enough to keep all samples.
+ */
+public class LatencyRecorder {
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        Endpoint samples = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        samples.latencies.add(latencyNanos);
+        if (!success) {
+            samples.errors.incrementAndGet();
+        }
+    }
+
+    public Map<String, EndpointStats> summarize(double elapsedSeconds) {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        endpoints.forEach((endpoint, samples) -> {
+            List<Long> sorted = new ArrayList<>(samples.latencies);
+            Collections.sort(sorted);
+            stats.put(endpoint, new EndpointStats(sorted.size(), samples.errors.get(), sorted.size() / elapsedSeconds,
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99),
+                    sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1) / 1_000_000.0));
+        });
+        return stats;
+    }
+
+    private static double percentileMillis(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    public record EndpointStats(long requests, long errors, double throughput, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    private static class Endpoint {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
@@ -0,0 +1,53 @@
+package com.aldebaran.AldebaranHealth.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * A load test run read from a JSON scenario file: how many virtual users walk the
+ * chat flow, how many at once, how the stub AI behaves, and the thresholds that fail the run.
+ */
+public record LoadTestScenario(String name,
+                               int virtualUsers,
+                               int warmupUsers,
+                               int concurrency,
+                               int messagesPerUser,
+                               int historyFetchesPerMessage,
+                               AIStub aiStub,
+                               Thresholds thresholds) {
+
+    public record AIStub(String latencyMedian, double latencySigma, double errorRate) {
+    }
+
+    public record Thresholds(double maxErrorRate, double minThroughput, Map<String, EndpointThreshold> endpoints) {
+    }
+
+    public record EndpointThreshold(Long p50Ms, Long p95Ms, Long p99Ms) {
+    }
+
+    /**
+     * Loads the scenario named by the loadtest.scenario system property, first as a file
+     * path and then as a classpath resource, defaulting to the bundled chat flow.
+     */
+    public static LoadTestScenario load() throws IOException {
+        String location = System.getProperty("loadtest.scenario", "scenarios/chat-flow.json");
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        Path path = Path.of(location);
+        if (Files.exists(path)) {
+            return objectMapper.readValue(path.toFile(), LoadTestScenario.class);
+        }
+
+        try (InputStream inputStream = LoadTestScenario.class.getClassLoader().getResourceAsStream(location)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Load test scenario not found: " + location);
+            }
+            return objectMapper.readValue(inputStream, LoadTestScenario.class);
+        }
+    }
+}
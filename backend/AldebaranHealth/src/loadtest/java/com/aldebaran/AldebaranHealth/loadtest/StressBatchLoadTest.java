@@ -0,0 +1,108 @@
+package com.aldebaran.AldebaranHealth.loadtest;
+
+import com.aldebaran.AldebaranHealth.enums.UserRole;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.repository.UserRepo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Uploads a generated PSS-10 CSV to {@code POST /stress/batch} as a researcher and checks the
+ * scoring rate the batch reports. Run it with {@code mvn -Ploadtest verify}; the size and target
+ * can be changed with {@code -Dloadtest.stress.rows} and {@code -Dloadtest.stress.min-per-minute}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"ai-stub", "loadtest"})
+class StressBatchLoadTest {
+
+    private static final int ROWS = Integer.getInteger("loadtest.stress.rows", 50_000);
+    private static final long MIN_PER_MINUTE = Long.getLong("loadtest.stress.min-per-minute", 100_000);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Test
+    void batchSustainsTargetThroughput() throws Exception {
+        String email = "stress-batch-loadtest@aldebaran.health";
+        String password = "load-test-password";
+        send(post("/signup", Map.of("userName", "Stress Batch", "email", email, "password", password)), 201);
+
+        User researcher = userRepo.findByEmail(email).orElseThrow();
+        researcher.setRole(UserRole.RESEARCHER);
+        userRepo.save(researcher);
+
+        String jwtToken = objectMapper.readTree(send(post("/login", Map.of("email", email, "password", password)), 200).body())
+                .path("jwtToken").asText();
+
+        HttpResponse<String> batch = send(HttpRequest.newBuilder(uri("/stress/batch"))
+                .header("Authorization", "Bearer " + jwtToken)
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString(csv(ROWS)))
+                .build(), 200);
+        assertEquals(ROWS + 1, batch.body().split("\n").length);
+
+        String batchId = batch.headers().firstValue("X-Batch-Id").orElseThrow();
+        JsonNode progress = objectMapper.readTree(send(HttpRequest.newBuilder(uri("/stress/batch/" + batchId))
+                .header("Authorization", "Bearer " + jwtToken)
+                .GET()
+                .build(), 200).body());
+
+        System.out.printf("%nStress batch: %d rows in %d ms (%d assessments per minute)%n%n",
+                ROWS, progress.path("durationMs").asLong(), progress.path("assessmentsPerMinute").asLong());
+        assertEquals("COMPLETED", progress.path("status").asText());
+        assertEquals(ROWS, progress.path("assessmentsSaved").asLong());
+        assertTrue(progress.path("assessmentsPerMinute").asLong() > MIN_PER_MINUTE,
+                "Scored " + progress.path("assessmentsPerMinute").asLong() + " assessments per minute, target " + MIN_PER_MINUTE);
+    }
+
+    private HttpResponse<String> send(HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(expectedStatus, response.statusCode(), request.method() + " " + request.uri().getPath());
+        return response;
+    }
+
+    private HttpRequest post(String path, Map<String, String> body) throws Exception {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String csv(int rows) {
+        Random random = new Random(42);
+        StringBuilder csv = new StringBuilder("id,q1,q2,q3,q4,q5,q6,q7,q8,q9,q10\n");
+        for (int row = 0; row < rows; row++) {
+            csv.append(row);
+            for (int q = 0; q < 10; q++) {
+                csv.append(',').append(random.nextInt(5));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+}
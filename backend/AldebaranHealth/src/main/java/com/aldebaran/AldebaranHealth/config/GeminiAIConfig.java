@@ -5,17 +5,17 @@ import com.google.genai.types.HttpOptions;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class GeminiAIConfig {
 
-    private String geminiApiKey;
-
-    public GeminiAIConfig(@Value("${spring.gemini.api-key}") String geminiApiKey) {
-        this.geminiApiKey = geminiApiKey;
-    }
-     @Bean
-    public Client GeminiAIClient() {
+    @Bean
+    @Profile("!ai-stub")
+    public Client GeminiAIClient(@Value("${spring.gemini.api-key}") String geminiApiKey) {
          Client client = Client.builder()
                  .apiKey(geminiApiKey)
                  .httpOptions(HttpOptions.builder()
@@ -25,4 +25,13 @@ public class GeminiAIConfig {
 
         return client;
     }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService aiExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-virtual-", 0).factory());
+        }
+
+        return Executors.newCachedThreadPool();
+    }
 }
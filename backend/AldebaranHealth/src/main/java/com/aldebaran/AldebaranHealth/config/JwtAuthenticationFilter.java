@@ -1,6 +1,12 @@
 package com.aldebaran.AldebaranHealth.config;
 
+import com.aldebaran.AldebaranHealth.model.UserPrincipal;
 import com.aldebaran.AldebaranHealth.service.JwtService;
+import com.aldebaran.AldebaranHealth.service.UserPrincipalCache;
+import com.aldebaran.AldebaranHealth.util.RequestTiming;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,23 +15,29 @@ import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+    private final Timer invalidTimer;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserPrincipalCache userPrincipalCache, MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+        this.invalidTimer = filterTimer(meterRegistry, "invalid");
     }
 
     @Override
@@ -41,14 +53,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwtToken = jwtAuthHeader.substring(7);
+        long startTime = System.nanoTime();
+        long userLookupTime = 0;
+        Timer outcomeTimer = rejectedTimer;
 
         try {
-            userName = jwtService.extractUserName(jwtToken);
+            Claims claims = jwtService.verifyToken(jwtToken);
+            userName = claims.getSubject();
 
             if (userName != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userName);
+                long userLookupStart = System.nanoTime();
+                UserPrincipal userDetails = userPrincipalCache.findByEmail(userName)
+                        .orElseThrow(() -> new UsernameNotFoundException("No user found by email"));
+                userLookupTime = System.nanoTime() - userLookupStart;
 
-                if (jwtService.isTokenValid(jwtToken, userDetails)) {
+                if (jwtService.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -56,11 +75,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     );
                     authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    RequestTiming.markAuthenticated();
+                    outcomeTimer = authenticatedTimer;
                 }
             }
         } catch (RuntimeException e) {
+            outcomeTimer = invalidTimer;
             logger.error("JWT Validation error" + e.getMessage());
         }
+        long filterTime = System.nanoTime() - startTime;
+        outcomeTimer.record(filterTime, TimeUnit.NANOSECONDS);
+        RequestTiming.record(RequestTiming.Phase.AUTH, filterTime - userLookupTime);
+        if (userLookupTime > 0) {
+            RequestTiming.record(RequestTiming.Phase.USER, userLookupTime);
+        }
         filterChain.doFilter(request, response);
     }
+
+    private Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt.filter")
+                .description("Time spent verifying a bearer token and loading its user, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,34 @@
+package com.aldebaran.AldebaranHealth.config;
+
+import com.aldebaran.AldebaranHealth.util.RequestTiming;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class RequestTimingConfig {
+
+    /**
+     * Adds every repository call to the current request's db phase, the same hook Spring Boot
+     * uses for the spring.data.repository.invocations timer.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor() {
+        RepositoryMethodInvocationListener listener = invocation ->
+                RequestTiming.record(RequestTiming.Phase.DB, invocation.getDuration(TimeUnit.NANOSECONDS));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
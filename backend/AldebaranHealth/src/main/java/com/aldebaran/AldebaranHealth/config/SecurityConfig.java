@@ -2,6 +2,7 @@ package com.aldebaran.AldebaranHealth.config;
 
 import com.aldebaran.AldebaranHealth.repository.UserRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,12 +16,19 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class SecurityConfig {
     private final UserRepo userRepo;
+    private final int bcryptStrength;
 
     @Autowired
-    public SecurityConfig(UserRepo userRepo) {
+    public SecurityConfig(UserRepo userRepo,
+                          @Value("${spring.security.password.bcrypt-strength:10}") int bcryptStrength) {
         this.userRepo = userRepo;
+        this.bcryptStrength = bcryptStrength;
     }
 
+    /**
+     * Password login only; it needs the stored hash, so it reads the user directly instead of
+     * going through the principal cache.
+     */
     @Bean
     public UserDetailsService userDetailsService() {
         return username -> userRepo.findByEmail(username).orElseThrow(() -> new RuntimeException("No user found by email" + username));
@@ -28,7 +36,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
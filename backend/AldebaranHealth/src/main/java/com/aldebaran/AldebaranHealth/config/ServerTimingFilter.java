@@ -0,0 +1,99 @@
+package com.aldebaran.AldebaranHealth.config;
+
+import com.aldebaran.AldebaranHealth.util.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outermost filter: binds a {@link RequestTiming} to the request, writes it as a
+ * {@code Server-Timing} header just before the response commits, and logs a sample of slow
+ * requests with their phase breakdown. The header is only sent to authenticated callers so
+ * signup and login timings do not leak to anonymous clients.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final boolean enabled;
+    private final long slowRequestNanos;
+    private final double slowRequestSampleRate;
+
+    @Autowired
+    public ServerTimingFilter(@Value("${server-timing.enabled:false}") boolean enabled,
+                              @Value("${server-timing.slow-request.threshold:2s}") Duration slowRequestThreshold,
+                              @Value("${server-timing.slow-request.sample-rate:0.0}") double slowRequestSampleRate) {
+        this.enabled = enabled;
+        this.slowRequestNanos = slowRequestThreshold.toNanos();
+        this.slowRequestSampleRate = slowRequestSampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, timing);
+
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            RequestTiming.clear();
+            timedResponse.writeServerTiming();
+
+            if (slowRequestSampleRate > 0 && timing.elapsedNanos() >= slowRequestNanos
+                    && ThreadLocalRandom.current().nextDouble() < slowRequestSampleRate) {
+                logger.warn("Slow request " + request.getMethod() + " " + request.getRequestURI()
+                        + " -> " + response.getStatus() + ": " + timing.describe());
+            }
+        }
+    }
+
+    private static class ServerTimingResponse extends OnCommittedResponseWrapper {
+        private final RequestTiming timing;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeServerTiming();
+        }
+
+        void writeServerTiming() {
+            if (!written && !isCommitted()) {
+                written = true;
+                if (timing.isAuthenticated() || isAuthenticated(SecurityContextHolder.getContext().getAuthentication())) {
+                    setHeader(SERVER_TIMING_HEADER, timing.toServerTiming());
+                }
+            }
+        }
+
+        private static boolean isAuthenticated(Authentication authentication) {
+            return authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken);
+        }
+    }
+}
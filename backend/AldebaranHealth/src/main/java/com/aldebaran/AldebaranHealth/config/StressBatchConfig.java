@@ -0,0 +1,20 @@
+package com.aldebaran.AldebaranHealth.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class StressBatchConfig {
+
+    /**
+     * Dedicated to batch scoring so a large upload never competes with the common pool that
+     * parallel streams elsewhere in the JVM use. 0 means one worker per core.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool stressBatchPool(@Value("${stress.batch.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -1,12 +1,23 @@
 package com.aldebaran.AldebaranHealth.config;
 
+import com.aldebaran.AldebaranHealth.enums.UserRole;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -19,6 +30,14 @@ import java.util.List;
 @Configuration
 public class WebConfig {
 
+    private static final String METRICS_SCRAPER_ROLE = "METRICS_SCRAPER";
+
+    /**
+     * Every cross-user export and import is mapped under this prefix, so one matcher keeps them
+     * all behind the ADMIN role.
+     */
+    static final String ADMIN_PATHS = "/conversation/admin/**";
+
     private final AuthenticationProvider authenticationProvider;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -28,14 +47,56 @@ public class WebConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    /**
+     * Actuator endpoints: health is public; the Prometheus scrape and the metrics endpoints take
+     * HTTP basic credentials for the scraper account (or an admin token), since both expose the
+     * same data; everything else needs a user token.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity httpSecurity, PasswordEncoder passwordEncoder,
+                                                           @Value("${spring.security.metrics-scraper.username:prometheus}") String scraperUsername,
+                                                           @Value("${spring.security.metrics-scraper.password:}") String scraperPassword) throws Exception {
+        InMemoryUserDetailsManager scraperAccounts = new InMemoryUserDetailsManager();
+        if (!scraperPassword.isBlank()) {
+            scraperAccounts.createUser(User.withUsername(scraperUsername)
+                    .password(passwordEncoder.encode(scraperPassword))
+                    .roles(METRICS_SCRAPER_ROLE)
+                    .build());
+        }
+
+        DaoAuthenticationProvider scraperAuthenticationProvider = new DaoAuthenticationProvider(scraperAccounts);
+        scraperAuthenticationProvider.setPasswordEncoder(passwordEncoder);
+
+        httpSecurity
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to("health")).permitAll()
+                        .requestMatchers(EndpointRequest.to("prometheus", "metrics")).hasAnyRole(METRICS_SCRAPER_ROLE, UserRole.ADMIN.name())
+                        .anyRequest().authenticated()
+                )
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .httpBasic(Customizer.withDefaults())
+                .authenticationManager(new ProviderManager(scraperAuthenticationProvider))
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return httpSecurity.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         httpSecurity
                 .cors(cors -> cors.configurationSource(corsConfiguration()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
                         .requestMatchers("/signup", "/login").permitAll()
                         .requestMatchers("/oauth2/**").permitAll()
+                        .requestMatchers(ADMIN_PATHS).hasRole(UserRole.ADMIN.name())
+                        .requestMatchers("/stress/batch", "/stress/batch/**").hasAnyRole(UserRole.RESEARCHER.name(), UserRole.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
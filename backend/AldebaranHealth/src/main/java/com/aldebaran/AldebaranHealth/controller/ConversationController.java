@@ -1,17 +1,29 @@
 package com.aldebaran.AldebaranHealth.controller;
 
+import com.aldebaran.AldebaranHealth.dto.request.ConversationImportRequest;
 import com.aldebaran.AldebaranHealth.dto.request.ConversationRequest;
+import com.aldebaran.AldebaranHealth.dto.response.BulkImportResponse;
 import com.aldebaran.AldebaranHealth.dto.response.ConversationResponse;
 import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.repository.projection.ConversationView;
+import com.aldebaran.AldebaranHealth.service.BulkImportService;
 import com.aldebaran.AldebaranHealth.service.ConversationService;
+import com.aldebaran.AldebaranHealth.service.ExportService;
+import com.aldebaran.AldebaranHealth.service.ResourceVersionService;
 import com.aldebaran.AldebaranHealth.util.AuthenticationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,11 +34,18 @@ public class ConversationController {
     private static final Logger logger = LoggerFactory.getLogger(ConversationController.class);
 
     private final ConversationService conversationService;
+    private final ExportService exportService;
+    private final BulkImportService bulkImportService;
+    private final ResourceVersionService resourceVersionService;
     private final AuthenticationUtil authenticationUtil;
 
     @Autowired
-    public ConversationController(ConversationService conversationService, AuthenticationUtil authenticationUtil) {
+    public ConversationController(ConversationService conversationService, ExportService exportService, BulkImportService bulkImportService,
+                                  ResourceVersionService resourceVersionService, AuthenticationUtil authenticationUtil) {
         this.conversationService = conversationService;
+        this.exportService = exportService;
+        this.bulkImportService = bulkImportService;
+        this.resourceVersionService = resourceVersionService;
         this.authenticationUtil = authenticationUtil;
     }
 
@@ -45,16 +64,24 @@ public class ConversationController {
     }
 
     @GetMapping
-    public ResponseEntity<?> getUserConversations() {
+    public ResponseEntity<?> getUserConversations(WebRequest webRequest) {
         try {
+            String eTag = resourceVersionService.userConversationsETag(authenticationUtil.getCurrentUserId());
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+
             String userEmail = authenticationUtil.getCurrentEmail();
-            List<Conversation> conversations = conversationService.getConversationsByUser(userEmail);
+            List<ConversationView> conversations = conversationService.getConversationsByUser(userEmail);
 
             List<ConversationResponse> responses = conversations.stream()
                     .map(ConversationResponse::new)
                     .collect(Collectors.toList());
 
-            return new ResponseEntity<>(responses, HttpStatus.OK);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(responses);
 
         } catch (Exception e) {
             logger.error("Failed to fetch user conversations: {}", e.getMessage());
@@ -63,29 +90,74 @@ public class ConversationController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<?> searchUserConversations(@RequestParam String term) {
+    public ResponseEntity<?> searchUserConversations(@RequestParam String term,
+                                                     @RequestParam(defaultValue = "false") boolean prefix,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "20") int size) {
         try {
             String userEmail = authenticationUtil.getCurrentEmail();
-            List<Conversation> conversations = conversationService.searchUserConversationsByName(userEmail, term);
+            List<Conversation> conversations = conversationService.searchUserConversationsByName(userEmail, term, prefix, page, size);
 
             List<ConversationResponse> responses = conversations.stream()
                     .map(ConversationResponse::new)
                     .collect(Collectors.toList());
 
             return new ResponseEntity<>(responses, HttpStatus.OK);
-        }  catch (Exception e) {
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid conversation search: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
             logger.error("Unexpected error searching conversations: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
-    @GetMapping("/admin/all")
-    public ResponseEntity<?> getAllConversations() {
+    @GetMapping(value = "/admin/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllConversations(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+                                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+                                                                        @RequestParam(required = false) Long userId) {
+        StreamingResponseBody responseBody = outputStream -> {
+            try {
+                exportService.exportConversations(from, to, userId, outputStream);
+            } catch (Exception e) {
+                logger.error("Failed to export conversations: {}", e.getMessage());
+                throw e;
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
+
+    @GetMapping(value = "/admin/messages/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllMessages(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+                                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+                                                                   @RequestParam(required = false) Long userId) {
+        StreamingResponseBody responseBody = outputStream -> {
+            try {
+                exportService.exportMessages(from, to, userId, outputStream);
+            } catch (Exception e) {
+                logger.error("Failed to export messages: {}", e.getMessage());
+                throw e;
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
+
+    @PostMapping("/admin/import")
+    public ResponseEntity<?> importConversations(@RequestBody List<ConversationImportRequest> conversationRequests) {
         try {
-            List<Conversation> allConversations = conversationService.getAllConversations();
-            return new ResponseEntity<>(allConversations, HttpStatus.OK);
+            BulkImportResponse importResponse = bulkImportService.importConversations(conversationRequests);
+            return ResponseEntity.status(HttpStatus.CREATED).body(importResponse);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid conversation import: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
-            logger.error("Failed to fetch all conversations: {}", e.getMessage());
+            logger.error("Unexpected error importing conversations: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
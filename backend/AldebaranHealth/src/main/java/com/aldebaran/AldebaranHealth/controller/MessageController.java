@@ -1,16 +1,19 @@
 package com.aldebaran.AldebaranHealth.controller;
 
 import com.aldebaran.AldebaranHealth.dto.request.MessageRequest;
-import com.aldebaran.AldebaranHealth.dto.response.MessageResponse;
+import com.aldebaran.AldebaranHealth.dto.response.MessagePageResponse;
 import com.aldebaran.AldebaranHealth.service.MessageService;
+import com.aldebaran.AldebaranHealth.service.ResourceVersionService;
 import com.aldebaran.AldebaranHealth.util.AuthenticationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/conversation/{conversationId}/messages")
@@ -19,10 +22,12 @@ public class MessageController {
     private static final Logger logger = LoggerFactory.getLogger(MessageController.class);
 
     private final MessageService messageService;
+    private final ResourceVersionService resourceVersionService;
     private final AuthenticationUtil authenticationUtil;
 
-    public MessageController(MessageService messageService, AuthenticationUtil authenticationUtil) {
+    public MessageController(MessageService messageService, ResourceVersionService resourceVersionService, AuthenticationUtil authenticationUtil) {
         this.messageService = messageService;
+        this.resourceVersionService = resourceVersionService;
         this.authenticationUtil = authenticationUtil;
     }
 
@@ -31,9 +36,9 @@ public class MessageController {
         try {
             String userEmail = authenticationUtil.getCurrentEmail();
 
-            List<MessageResponse> messages = messageService.createMessage(conversationId, messageRequest);
+            MessagePageResponse createdMessages = messageService.createMessage(conversationId, messageRequest, authenticationUtil.getCurrentModelTier());
             logger.info("Messages created successfully for conversation: {} by user: {}", conversationId, userEmail);
-            return new ResponseEntity<>(messages, HttpStatus.CREATED);
+            return new ResponseEntity<>(createdMessages, HttpStatus.CREATED);
 
         } catch (Exception e) {
             logger.error("Unexpected error creating messages: {}", e.getMessage());
@@ -41,23 +46,46 @@ public class MessageController {
         }
     }
 
-    @GetMapping
-    public ResponseEntity<?> getConversationMessages(@PathVariable Long conversationId) {
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMessage(@RequestBody MessageRequest messageRequest, @PathVariable Long conversationId) {
         try {
-            List<MessageResponse> messages = messageService.getMessageById(conversationId);
-            return new ResponseEntity<>(messages, HttpStatus.OK);
+            String userEmail = authenticationUtil.getCurrentEmail();
+
+            SseEmitter emitter = messageService.streamMessage(conversationId, messageRequest, authenticationUtil.getCurrentModelTier());
+            logger.info("Message stream started for conversation: {} by user: {}", conversationId, userEmail);
+            return new ResponseEntity<>(emitter, HttpStatus.OK);
+
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid stream request: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
-            logger.error("Unexpected error getting messages: {}", e.getMessage());
+            logger.error("Unexpected error streaming messages: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
-    @GetMapping("/all")
-    public ResponseEntity<?> getAllMessages() {
+    @GetMapping
+    public ResponseEntity<?> getConversationMessages(@PathVariable Long conversationId,
+                                                     @RequestParam(required = false) Integer limit,
+                                                     @RequestParam(required = false) String before,
+                                                     @RequestParam(required = false) String after,
+                                                     WebRequest webRequest) {
         try {
-            List<MessageResponse> allMessages = messageService.getAllMessages();
-            return new ResponseEntity(allMessages, HttpStatus.OK);
+            String eTag = resourceVersionService.conversationMessagesETag(conversationId, limit + ":" + before + ":" + after);
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+
+            MessagePageResponse messagePage = messageService.getMessagePage(conversationId, limit, before, after);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(messagePage);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid message page request: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
+            logger.error("Unexpected error getting messages: {}", e.getMessage());
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
@@ -0,0 +1,50 @@
+package com.aldebaran.AldebaranHealth.controller;
+
+import com.aldebaran.AldebaranHealth.dto.response.MessageSearchResponse;
+import com.aldebaran.AldebaranHealth.service.MessageSearchService;
+import com.aldebaran.AldebaranHealth.util.AuthenticationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/messages/search")
+public class MessageSearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageSearchController.class);
+
+    private final MessageSearchService messageSearchService;
+    private final AuthenticationUtil authenticationUtil;
+
+    @Autowired
+    public MessageSearchController(MessageSearchService messageSearchService, AuthenticationUtil authenticationUtil) {
+        this.messageSearchService = messageSearchService;
+        this.authenticationUtil = authenticationUtil;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> searchMessages(@RequestParam String q,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "20") int size) {
+        try {
+            String userEmail = authenticationUtil.getCurrentEmail();
+            List<MessageSearchResponse> results = messageSearchService.searchUserMessages(userEmail, q, page, size);
+
+            return new ResponseEntity<>(results, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid message search: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            logger.error("Unexpected error searching messages: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.aldebaran.AldebaranHealth.controller;
+
+import com.aldebaran.AldebaranHealth.dto.request.StressAnalysisRequest;
+import com.aldebaran.AldebaranHealth.dto.response.StressAnalysisResponse;
+import com.aldebaran.AldebaranHealth.dto.response.StressBatchResponse;
+import com.aldebaran.AldebaranHealth.dto.response.StressTrendResponse;
+import com.aldebaran.AldebaranHealth.enums.RollupPeriod;
+import com.aldebaran.AldebaranHealth.model.StressAssessment;
+import com.aldebaran.AldebaranHealth.service.StressBatchService;
+import com.aldebaran.AldebaranHealth.service.StressHistoryService;
+import com.aldebaran.AldebaranHealth.service.StressScoringService;
+import com.aldebaran.AldebaranHealth.util.AuthenticationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/stress")
+public class StressController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StressController.class);
+
+    static final String BATCH_ID_HEADER = "X-Batch-Id";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final StressScoringService stressScoringService;
+    private final StressBatchService stressBatchService;
+    private final StressHistoryService stressHistoryService;
+    private final AuthenticationUtil authenticationUtil;
+
+    @Autowired
+    public StressController(StressScoringService stressScoringService, StressBatchService stressBatchService,
+                            StressHistoryService stressHistoryService, AuthenticationUtil authenticationUtil) {
+        this.stressScoringService = stressScoringService;
+        this.stressBatchService = stressBatchService;
+        this.stressHistoryService = stressHistoryService;
+        this.authenticationUtil = authenticationUtil;
+    }
+
+    @PostMapping("/analyze")
+    public ResponseEntity<?> analyzeStress(@RequestBody StressAnalysisRequest stressAnalysisRequest) {
+        try {
+            StressAssessment assessment = stressScoringService.assess(stressAnalysisRequest.getResponses());
+            StressAssessment savedAssessment = stressHistoryService.recordAssessment(authenticationUtil.getCurrentUserId(), assessment);
+            StressAnalysisResponse stressAnalysis = new StressAnalysisResponse(savedAssessment);
+
+            return new ResponseEntity<>(stressAnalysis, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid stress analysis request: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            logger.error("Unexpected error analyzing stress: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<?> getStressHistory(@RequestParam(defaultValue = "DAY") RollupPeriod period,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate end = to == null ? stressHistoryService.today() : to;
+            LocalDate start = from == null ? end.minusYears(1) : from;
+            List<StressTrendResponse> trend = stressHistoryService.getTrend(authenticationUtil.getCurrentUserId(), period, start, end);
+
+            return new ResponseEntity<>(trend, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid stress history request: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            logger.error("Unexpected error getting stress history: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping(value = "/batch", consumes = "text/csv")
+    public ResponseEntity<StreamingResponseBody> assessBatch(InputStream csv) {
+        StressBatchService.Upload upload;
+        try {
+            upload = stressBatchService.startBatch(authenticationUtil.getCurrentUserId(), csv);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid stress batch upload: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            logger.error("Unexpected error starting stress batch: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        StreamingResponseBody responseBody = outputStream -> {
+            try {
+                stressBatchService.processBatch(upload, outputStream);
+            } catch (Exception e) {
+                logger.error("Failed to process stress batch {}: {}", upload.getBatchId(), e.getMessage());
+                throw e;
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(BATCH_ID_HEADER, upload.getBatchId())
+                .contentType(TEXT_CSV)
+                .body(responseBody);
+    }
+
+    @GetMapping("/batch/{batchId}")
+    public ResponseEntity<?> getBatchProgress(@PathVariable String batchId) {
+        try {
+            Optional<StressBatchResponse> progress = stressBatchService.getProgress(batchId, authenticationUtil.getCurrentUserId());
+
+            return progress.<ResponseEntity<?>>map(response -> new ResponseEntity<>(response, HttpStatus.OK))
+                    .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        } catch (Exception e) {
+            logger.error("Unexpected error getting stress batch progress: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.aldebaran.AldebaranHealth.dto.request;
+
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+
+import java.util.Date;
+import java.util.List;
+
+public class ConversationImportRequest {
+    private Long userId;
+    private String name;
+    private SessionType sessionType;
+    private Date createdAt;
+    private List<MessageImportRequest> messages;
+
+    public ConversationImportRequest(Long userId, String name, SessionType sessionType, Date createdAt, List<MessageImportRequest> messages) {
+        this.userId = userId;
+        this.name = name;
+        this.sessionType = sessionType;
+        this.createdAt = createdAt;
+        this.messages = messages;
+    }
+
+    public ConversationImportRequest() {
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public SessionType getSessionType() {
+        return sessionType;
+    }
+
+    public void setSessionType(SessionType sessionType) {
+        this.sessionType = sessionType;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<MessageImportRequest> getMessages() {
+        return messages;
+    }
+
+    public void setMessages(List<MessageImportRequest> messages) {
+        this.messages = messages;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Date;
 public class MessageRequest {
     private String content;
     private Date createdAt;
+    private boolean personalized;
 
     public MessageRequest(String content, Date createdAt) {
         this.content = content;
@@ -29,4 +30,12 @@ public class MessageRequest {
     public void setCreatedAt(Date createdAt) {
         this.createdAt = createdAt;
     }
+
+    public boolean isPersonalized() {
+        return personalized;
+    }
+
+    public void setPersonalized(boolean personalized) {
+        this.personalized = personalized;
+    }
 }
@@ -0,0 +1,22 @@
+package com.aldebaran.AldebaranHealth.dto.request;
+
+import java.util.List;
+
+public class StressAnalysisRequest {
+    private List<Integer> responses;
+
+    public StressAnalysisRequest(List<Integer> responses) {
+        this.responses = responses;
+    }
+
+    public StressAnalysisRequest() {
+    }
+
+    public List<Integer> getResponses() {
+        return responses;
+    }
+
+    public void setResponses(List<Integer> responses) {
+        this.responses = responses;
+    }
+}
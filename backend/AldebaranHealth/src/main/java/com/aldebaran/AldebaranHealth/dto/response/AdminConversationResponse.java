@@ -0,0 +1,85 @@
+package com.aldebaran.AldebaranHealth.dto.response;
+
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+import com.aldebaran.AldebaranHealth.repository.projection.AdminConversationView;
+
+import java.util.Date;
+
+public class AdminConversationResponse {
+    private Long conversationId;
+    private String name;
+    private SessionType sessionType;
+    private Date createdAt;
+    private Long userId;
+    private String userName;
+    private Long messageCount;
+
+    public AdminConversationResponse(AdminConversationView adminConversationView) {
+        this.conversationId = adminConversationView.getConversationId();
+        this.name = adminConversationView.getName();
+        this.sessionType = adminConversationView.getSessionType();
+        this.createdAt = adminConversationView.getCreatedAt();
+        this.userId = adminConversationView.getUserId();
+        this.userName = adminConversationView.getUserName();
+        this.messageCount = adminConversationView.getMessageCount();
+    }
+
+    public AdminConversationResponse() {
+    }
+
+    public Long getConversationId() {
+        return conversationId;
+    }
+
+    public void setConversationId(Long conversationId) {
+        this.conversationId = conversationId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public SessionType getSessionType() {
+        return sessionType;
+    }
+
+    public void setSessionType(SessionType sessionType) {
+        this.sessionType = sessionType;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    public Long getMessageCount() {
+        return messageCount;
+    }
+
+    public void setMessageCount(Long messageCount) {
+        this.messageCount = messageCount;
+    }
+}
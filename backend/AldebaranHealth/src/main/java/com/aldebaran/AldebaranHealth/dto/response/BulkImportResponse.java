@@ -0,0 +1,40 @@
+package com.aldebaran.AldebaranHealth.dto.response;
+
+public class BulkImportResponse {
+    private long conversationsImported;
+    private long messagesImported;
+    private long durationMs;
+
+    public BulkImportResponse(long conversationsImported, long messagesImported, long durationMs) {
+        this.conversationsImported = conversationsImported;
+        this.messagesImported = messagesImported;
+        this.durationMs = durationMs;
+    }
+
+    public BulkImportResponse() {
+    }
+
+    public long getConversationsImported() {
+        return conversationsImported;
+    }
+
+    public void setConversationsImported(long conversationsImported) {
+        this.conversationsImported = conversationsImported;
+    }
+
+    public long getMessagesImported() {
+        return messagesImported;
+    }
+
+    public void setMessagesImported(long messagesImported) {
+        this.messagesImported = messagesImported;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
@@ -2,6 +2,7 @@ package com.aldebaran.AldebaranHealth.dto.response;
 
 import com.aldebaran.AldebaranHealth.enums.SessionType;
 import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.repository.projection.ConversationView;
 
 import java.util.Date;
 
@@ -18,6 +19,13 @@ public class ConversationResponse {
         this.createdAt = conversation.getCreatedAt();
     }
 
+    public ConversationResponse(ConversationView conversationView) {
+        this.conversationId = conversationView.getConversationId();
+        this.name = conversationView.getName();
+        this.sessionType = conversationView.getSessionType();
+        this.createdAt = conversationView.getCreatedAt();
+    }
+
     public ConversationResponse() {
     }
 
@@ -0,0 +1,65 @@
+package com.aldebaran.AldebaranHealth.dto.response;
+
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Message;
+
+import java.util.Date;
+
+public class MessageExportResponse {
+    private Long messageId;
+    private Long conversationId;
+    private String content;
+    private SenderType senderType;
+    private Date createdAt;
+
+    public MessageExportResponse(Message message) {
+        this.messageId = message.getMessageId();
+        this.conversationId = message.getConversation().getConversationId();
+        this.content = message.getContent();
+        this.senderType = message.getSenderType();
+        this.createdAt = message.getCreatedAt();
+    }
+
+    public MessageExportResponse() {
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(Long messageId) {
+        this.messageId = messageId;
+    }
+
+    public Long getConversationId() {
+        return conversationId;
+    }
+
+    public void setConversationId(Long conversationId) {
+        this.conversationId = conversationId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public SenderType getSenderType() {
+        return senderType;
+    }
+
+    public void setSenderType(SenderType senderType) {
+        this.senderType = senderType;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+}
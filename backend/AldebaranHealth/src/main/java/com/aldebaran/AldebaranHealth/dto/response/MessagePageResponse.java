@@ -0,0 +1,52 @@
+package com.aldebaran.AldebaranHealth.dto.response;
+
+import java.util.List;
+
+public class MessagePageResponse {
+    private List<MessageResponse> messages;
+    private String beforeCursor;
+    private String afterCursor;
+    private boolean hasMore;
+
+    public MessagePageResponse(List<MessageResponse> messages, String beforeCursor, String afterCursor, boolean hasMore) {
+        this.messages = messages;
+        this.beforeCursor = beforeCursor;
+        this.afterCursor = afterCursor;
+        this.hasMore = hasMore;
+    }
+
+    public MessagePageResponse() {
+    }
+
+    public List<MessageResponse> getMessages() {
+        return messages;
+    }
+
+    public void setMessages(List<MessageResponse> messages) {
+        this.messages = messages;
+    }
+
+    public String getBeforeCursor() {
+        return beforeCursor;
+    }
+
+    public void setBeforeCursor(String beforeCursor) {
+        this.beforeCursor = beforeCursor;
+    }
+
+    public String getAfterCursor() {
+        return afterCursor;
+    }
+
+    public void setAfterCursor(String afterCursor) {
+        this.afterCursor = afterCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -1,10 +1,12 @@
 package com.aldebaran.AldebaranHealth.dto.response;
 
 import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Message;
 
 import java.util.Date;
 
 public class MessageResponse {
+    private Long messageId;
     private String content;
     private SenderType senderType;
     private Date createdAt;
@@ -15,9 +17,24 @@ public class MessageResponse {
         this.createdAt = createdAt;
     }
 
+    public MessageResponse(Message message) {
+        this.messageId = message.getMessageId();
+        this.content = message.getContent();
+        this.senderType = message.getSenderType();
+        this.createdAt = message.getCreatedAt();
+    }
+
     public MessageResponse() {
     }
 
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(Long messageId) {
+        this.messageId = messageId;
+    }
+
     public String getContent() {
         return content;
     }
@@ -0,0 +1,84 @@
+package com.aldebaran.AldebaranHealth.dto.response;
+
+import com.aldebaran.AldebaranHealth.repository.projection.MessageSearchView;
+
+import java.util.Date;
+
+public class MessageSearchResponse {
+    private Long messageId;
+    private Long conversationId;
+    private String conversationName;
+    private String senderType;
+    private Date createdAt;
+    private Double rank;
+    private String snippet;
+
+    public MessageSearchResponse(MessageSearchView messageSearchView) {
+        this.messageId = messageSearchView.getMessageId();
+        this.conversationId = messageSearchView.getConversationId();
+        this.conversationName = messageSearchView.getConversationName();
+        this.senderType = messageSearchView.getSenderType();
+        this.createdAt = messageSearchView.getCreatedAt();
+        this.rank = messageSearchView.getRank();
+        this.snippet = messageSearchView.getSnippet();
+    }
+
+    public MessageSearchResponse() {
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(Long messageId) {
+        this.messageId = messageId;
+    }
+
+    public Long getConversationId() {
+        return conversationId;
+    }
+
+    public void setConversationId(Long conversationId) {
+        this.conversationId = conversationId;
+    }
+
+    public String getConversationName() {
+        return conversationName;
+    }
+
+    public void setConversationName(String conversationName) {
+        this.conversationName = conversationName;
+    }
+
+    public String getSenderType() {
+        return senderType;
+    }
+
+    public void setSenderType(String senderType) {
+        this.senderType = senderType;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Double getRank() {
+        return rank;
+    }
+
+    public void setRank(Double rank) {
+        this.rank = rank;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+}
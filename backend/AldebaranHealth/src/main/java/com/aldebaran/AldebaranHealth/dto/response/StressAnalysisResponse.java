@@ -0,0 +1,111 @@
+package com.aldebaran.AldebaranHealth.dto.response;
+
+import com.aldebaran.AldebaranHealth.enums.StressLevel;
+import com.aldebaran.AldebaranHealth.model.StressAssessment;
+import com.aldebaran.AldebaranHealth.util.PSS10Scorer;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class StressAnalysisResponse {
+    private Long assessmentId;
+    private Date assessedAt;
+    private int pss10Score;
+    private int maxPossibleScore;
+    private double percentage;
+    private StressLevel stressLevel;
+    private StressLevel predictedLevel;
+    private double confidence;
+    private Map<StressLevel, Double> probabilities;
+
+    public StressAnalysisResponse(StressAssessment stressAssessment) {
+        this.assessmentId = stressAssessment.getAssessmentId();
+        this.assessedAt = stressAssessment.getCreatedAt();
+        this.pss10Score = stressAssessment.getPss10Score();
+        this.maxPossibleScore = PSS10Scorer.MAX_SCORE;
+        this.percentage = Math.round(pss10Score * 1000.0 / maxPossibleScore) / 10.0;
+        this.stressLevel = stressAssessment.getStressLevel();
+        this.predictedLevel = stressAssessment.getPredictedLevel();
+        this.confidence = stressAssessment.getConfidence();
+        this.probabilities = new EnumMap<>(StressLevel.class);
+        this.probabilities.put(StressLevel.LOW, stressAssessment.getProbabilityLow());
+        this.probabilities.put(StressLevel.MODERATE, stressAssessment.getProbabilityModerate());
+        this.probabilities.put(StressLevel.HIGH, stressAssessment.getProbabilityHigh());
+    }
+
+    public StressAnalysisResponse() {
+    }
+
+    public Long getAssessmentId() {
+        return assessmentId;
+    }
+
+    public void setAssessmentId(Long assessmentId) {
+        this.assessmentId = assessmentId;
+    }
+
+    public Date getAssessedAt() {
+        return assessedAt;
+    }
+
+    public void setAssessedAt(Date assessedAt) {
+        this.assessedAt = assessedAt;
+    }
+
+    public int getPss10Score() {
+        return pss10Score;
+    }
+
+    public void setPss10Score(int pss10Score) {
+        this.pss10Score = pss10Score;
+    }
+
+    public int getMaxPossibleScore() {
+        return maxPossibleScore;
+    }
+
+    public void setMaxPossibleScore(int maxPossibleScore) {
+        this.maxPossibleScore = maxPossibleScore;
+    }
+
+    public double getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(double percentage) {
+        this.percentage = percentage;
+    }
+
+    public StressLevel getStressLevel() {
+        return stressLevel;
+    }
+
+    public void setStressLevel(StressLevel stressLevel) {
+        this.stressLevel = stressLevel;
+    }
+
+    public StressLevel getPredictedLevel() {
+        return predictedLevel;
+    }
+
+    public void setPredictedLevel(StressLevel predictedLevel) {
+        this.predictedLevel = predictedLevel;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(double confidence) {
+        this.confidence = confidence;
+    }
+
+    public Map<StressLevel, Double> getProbabilities() {
+        return probabilities;
+    }
+
+    public void setProbabilities(Map<StressLevel, Double> probabilities) {
+        this.probabilities = probabilities;
+    }
+}
@@ -0,0 +1,105 @@
+package com.aldebaran.AldebaranHealth.dto.response;
+
+import com.aldebaran.AldebaranHealth.enums.BatchStatus;
+
+import java.util.Date;
+
+public class StressBatchResponse {
+    private String batchId;
+    private BatchStatus status;
+    private long rowsRead;
+    private long assessmentsSaved;
+    private long rowsRejected;
+    private Date startedAt;
+    private long durationMs;
+    private long assessmentsPerMinute;
+    private String error;
+
+    public StressBatchResponse(String batchId, BatchStatus status, long rowsRead, long assessmentsSaved, long rowsRejected,
+                               Date startedAt, long durationMs, String error) {
+        this.batchId = batchId;
+        this.status = status;
+        this.rowsRead = rowsRead;
+        this.assessmentsSaved = assessmentsSaved;
+        this.rowsRejected = rowsRejected;
+        this.startedAt = startedAt;
+        this.durationMs = durationMs;
+        this.assessmentsPerMinute = durationMs > 0 ? assessmentsSaved * 60_000 / durationMs : 0;
+        this.error = error;
+    }
+
+    public StressBatchResponse() {
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    public BatchStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchStatus status) {
+        this.status = status;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public void setRowsRead(long rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    public long getAssessmentsSaved() {
+        return assessmentsSaved;
+    }
+
+    public void setAssessmentsSaved(long assessmentsSaved) {
+        this.assessmentsSaved = assessmentsSaved;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public void setRowsRejected(long rowsRejected) {
+        this.rowsRejected = rowsRejected;
+    }
+
+    public Date getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Date startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public long getAssessmentsPerMinute() {
+        return assessmentsPerMinute;
+    }
+
+    public void setAssessmentsPerMinute(long assessmentsPerMinute) {
+        this.assessmentsPerMinute = assessmentsPerMinute;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,102 @@
+package com.aldebaran.AldebaranHealth.dto.response;
+
+import com.aldebaran.AldebaranHealth.enums.RollupPeriod;
+import com.aldebaran.AldebaranHealth.enums.StressLevel;
+import com.aldebaran.AldebaranHealth.model.StressRollup;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class StressTrendResponse {
+    private RollupPeriod period;
+    private LocalDate periodStart;
+    private int assessmentCount;
+    private double meanScore;
+    private Map<StressLevel, Integer> levelDistribution;
+    private int lastScore;
+    private StressLevel lastLevel;
+    private Date lastAssessedAt;
+
+    public StressTrendResponse(StressRollup stressRollup) {
+        this.period = stressRollup.getPeriod();
+        this.periodStart = stressRollup.getPeriodStart();
+        this.assessmentCount = stressRollup.getAssessmentCount();
+        this.meanScore = Math.round(stressRollup.getScoreSum() * 10.0 / stressRollup.getAssessmentCount()) / 10.0;
+        this.levelDistribution = new EnumMap<>(StressLevel.class);
+        this.levelDistribution.put(StressLevel.LOW, stressRollup.getLowCount());
+        this.levelDistribution.put(StressLevel.MODERATE, stressRollup.getModerateCount());
+        this.levelDistribution.put(StressLevel.HIGH, stressRollup.getHighCount());
+        this.lastScore = stressRollup.getLastScore();
+        this.lastLevel = stressRollup.getLastLevel();
+        this.lastAssessedAt = stressRollup.getLastAssessedAt();
+    }
+
+    public StressTrendResponse() {
+    }
+
+    public RollupPeriod getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(RollupPeriod period) {
+        this.period = period;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public int getAssessmentCount() {
+        return assessmentCount;
+    }
+
+    public void setAssessmentCount(int assessmentCount) {
+        this.assessmentCount = assessmentCount;
+    }
+
+    public double getMeanScore() {
+        return meanScore;
+    }
+
+    public void setMeanScore(double meanScore) {
+        this.meanScore = meanScore;
+    }
+
+    public Map<StressLevel, Integer> getLevelDistribution() {
+        return levelDistribution;
+    }
+
+    public void setLevelDistribution(Map<StressLevel, Integer> levelDistribution) {
+        this.levelDistribution = levelDistribution;
+    }
+
+    public int getLastScore() {
+        return lastScore;
+    }
+
+    public void setLastScore(int lastScore) {
+        this.lastScore = lastScore;
+    }
+
+    public StressLevel getLastLevel() {
+        return lastLevel;
+    }
+
+    public void setLastLevel(StressLevel lastLevel) {
+        this.lastLevel = lastLevel;
+    }
+
+    public Date getLastAssessedAt() {
+        return lastAssessedAt;
+    }
+
+    public void setLastAssessedAt(Date lastAssessedAt) {
+        this.lastAssessedAt = lastAssessedAt;
+    }
+}
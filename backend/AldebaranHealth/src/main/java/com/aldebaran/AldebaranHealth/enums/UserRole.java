@@ -0,0 +1,7 @@
+package com.aldebaran.AldebaranHealth.enums;
+
+public enum UserRole {
+    USER,
+    RESEARCHER,
+    ADMIN
+}
@@ -21,11 +21,12 @@ import java.util.List;
 public class Conversation {
 
     @Id
-    @GeneratedValue (strategy = GenerationType.IDENTITY)
+    @GeneratedValue (strategy = GenerationType.SEQUENCE, generator = "conversation_seq")
+    @SequenceGenerator (name = "conversation_seq", sequenceName = "conversation_seq", allocationSize = 50)
     @Column (name = "conversation_id")
     private Long conversationId;
 
-    @ManyToOne
+    @ManyToOne (fetch = FetchType.LAZY)
     @JoinColumn (name = "user_id", nullable = false)
     private User user;
 
@@ -39,6 +40,15 @@ public class Conversation {
     @Column (name = "created_at")
     private Date createdAt;
 
+    @Column (name = "summary", columnDefinition = "TEXT")
+    private String summary;
+
+    @Column (name = "summary_created_at")
+    private Date summaryCreatedAt;
+
+    @Column (name = "summary_message_id")
+    private Long summaryMessageId;
+
     @OneToMany (mappedBy = "conversation", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Message> messageList;
 
@@ -12,14 +12,17 @@ import java.time.LocalDateTime;
 import java.util.Date;
 
 @Entity
-@Table (name = "message")
+@Table (name = "message", indexes = {
+        @Index (name = "idx_message_conversation_created", columnList = "conversation_id, created_at, message_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Message {
     @Id
-    @GeneratedValue (strategy = GenerationType.IDENTITY)
+    @GeneratedValue (strategy = GenerationType.SEQUENCE, generator = "message_seq")
+    @SequenceGenerator (name = "message_seq", sequenceName = "message_seq", allocationSize = 50)
     @Column (name = "message_id")
     private Long messageId;
 
@@ -33,7 +36,7 @@ public class Message {
     @Column (name = "created_at")
     private Date createdAt;
 
-    @ManyToOne
+    @ManyToOne (fetch = FetchType.LAZY)
     @JoinColumn (name = "conversation_id", nullable = false)
     private Conversation conversation;
 
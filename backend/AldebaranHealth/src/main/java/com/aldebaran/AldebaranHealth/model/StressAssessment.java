@@ -0,0 +1,66 @@
+package com.aldebaran.AldebaranHealth.model;
+
+import com.aldebaran.AldebaranHealth.enums.StressLevel;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Entity
+@Table (name = "stress_assessment", indexes = {
+        @Index (name = "idx_stress_assessment_batch", columnList = "batch_id, assessment_id"),
+        @Index (name = "idx_stress_assessment_user_created", columnList = "user_id, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StressAssessment {
+    @Id
+    @GeneratedValue (strategy = GenerationType.SEQUENCE, generator = "stress_assessment_seq")
+    @SequenceGenerator (name = "stress_assessment_seq", sequenceName = "stress_assessment_seq", allocationSize = 50)
+    @Column (name = "assessment_id")
+    private Long assessmentId;
+
+    @ManyToOne (fetch = FetchType.LAZY)
+    @JoinColumn (name = "user_id", nullable = false)
+    private User user;
+
+    @Column (name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column (name = "external_id")
+    private String externalId;
+
+    @Column (name = "responses", nullable = false, length = 10)
+    private String responses;
+
+    @Column (name = "pss10_score", nullable = false)
+    private int pss10Score;
+
+    @Enumerated (EnumType.STRING)
+    @Column (name = "stress_level", nullable = false)
+    private StressLevel stressLevel;
+
+    @Enumerated (EnumType.STRING)
+    @Column (name = "predicted_level", nullable = false)
+    private StressLevel predictedLevel;
+
+    @Column (name = "confidence")
+    private double confidence;
+
+    @Column (name = "probability_low")
+    private double probabilityLow;
+
+    @Column (name = "probability_moderate")
+    private double probabilityModerate;
+
+    @Column (name = "probability_high")
+    private double probabilityHigh;
+
+    @Column (name = "created_at", nullable = false)
+    private Date createdAt;
+}
@@ -0,0 +1,63 @@
+package com.aldebaran.AldebaranHealth.model;
+
+import com.aldebaran.AldebaranHealth.enums.RollupPeriod;
+import com.aldebaran.AldebaranHealth.enums.StressLevel;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+@Entity
+@Table (name = "stress_rollup", uniqueConstraints = @UniqueConstraint (name = "uk_stress_rollup_user_period_start",
+        columnNames = {"user_id", "period", "period_start"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StressRollup {
+    @Id
+    @GeneratedValue (strategy = GenerationType.SEQUENCE, generator = "stress_rollup_seq")
+    @SequenceGenerator (name = "stress_rollup_seq", sequenceName = "stress_rollup_seq", allocationSize = 50)
+    @Column (name = "rollup_id")
+    private Long rollupId;
+
+    @ManyToOne (fetch = FetchType.LAZY)
+    @JoinColumn (name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated (EnumType.STRING)
+    @Column (name = "period", nullable = false, length = 10)
+    private RollupPeriod period;
+
+    @Column (name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column (name = "assessment_count", nullable = false)
+    private int assessmentCount;
+
+    @Column (name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column (name = "low_count", nullable = false)
+    private int lowCount;
+
+    @Column (name = "moderate_count", nullable = false)
+    private int moderateCount;
+
+    @Column (name = "high_count", nullable = false)
+    private int highCount;
+
+    @Column (name = "last_score", nullable = false)
+    private int lastScore;
+
+    @Enumerated (EnumType.STRING)
+    @Column (name = "last_level", nullable = false)
+    private StressLevel lastLevel;
+
+    @Column (name = "last_assessed_at", nullable = false)
+    private Date lastAssessedAt;
+}
@@ -1,11 +1,14 @@
 package com.aldebaran.AldebaranHealth.model;
 
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
@@ -14,6 +17,7 @@ import java.util.List;
 
 @Entity
 @Table (name = "users")
+@EntityListeners (UserCacheInvalidationListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +25,8 @@ import java.util.List;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue (strategy = GenerationType.IDENTITY)
+    @GeneratedValue (strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator (name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column (name = "user_id")
     private Long userId;
 
@@ -37,12 +42,21 @@ public class User implements UserDetails {
     @Column (name = "created_at")
     private Date createdAt;
 
+    @Enumerated (EnumType.STRING)
+    @Column (name = "model_tier")
+    private ModelTier modelTier;
+
+    @Enumerated (EnumType.STRING)
+    @Column (name = "role")
+    private UserRole role;
+
     @OneToMany (mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Conversation> conversationList;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(() -> "ROLE_USER");
+        UserRole userRole = role == null ? UserRole.USER : role;
+        return List.of(new SimpleGrantedAuthority("ROLE_" + userRole.name()));
     }
 
     @Override
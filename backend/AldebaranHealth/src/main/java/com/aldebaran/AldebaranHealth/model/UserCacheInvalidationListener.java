@@ -0,0 +1,25 @@
+package com.aldebaran.AldebaranHealth.model;
+
+import com.aldebaran.AldebaranHealth.service.UserPrincipalCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserCacheInvalidationListener {
+    private final UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    public UserCacheInvalidationListener(@Lazy UserPrincipalCache userPrincipalCache) {
+        this.userPrincipalCache = userPrincipalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evictCachedPrincipal(User user) {
+        userPrincipalCache.evictUser(user.getUserId());
+        userPrincipalCache.evict(user.getEmail());
+    }
+}
@@ -0,0 +1,61 @@
+package com.aldebaran.AldebaranHealth.model;
+
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable snapshot of a {@link User} for the security context and the principal cache. It
+ * carries no password hash and no JPA state, so one instance can be shared by every request
+ * thread.
+ */
+public final class UserPrincipal implements UserDetails {
+    private final Long userId;
+    private final String email;
+    private final ModelTier modelTier;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long userId, String email, ModelTier modelTier, Collection<? extends GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.email = email;
+        this.modelTier = modelTier;
+        this.authorities = authorities.stream()
+                .<GrantedAuthority>map(authority -> new SimpleGrantedAuthority(authority.getAuthority()))
+                .toList();
+    }
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getUserId(), user.getEmail(), user.getModelTier(), user.getAuthorities());
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public ModelTier getModelTier() {
+        return modelTier;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
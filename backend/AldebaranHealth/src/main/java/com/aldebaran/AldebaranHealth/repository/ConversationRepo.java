@@ -2,15 +2,58 @@ package com.aldebaran.AldebaranHealth.repository;
 
 import com.aldebaran.AldebaranHealth.model.Conversation;
 import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.repository.projection.AdminConversationView;
+import com.aldebaran.AldebaranHealth.repository.projection.ConversationView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ConversationRepo extends JpaRepository<Conversation, Long> {
     boolean existsByName(String name);
     List<Conversation> findByUser(User user);
 
-    List<Conversation> findByNameContainingIgnoreCase(String name);
+    List<ConversationView> findByUser_UserIdOrderByConversationIdDesc(Long userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c.conversationId AS conversationId, c.name AS name, c.sessionType AS sessionType, c.createdAt AS createdAt, " +
+            "u.userId AS userId, u.userName AS userName, COUNT(m.messageId) AS messageCount " +
+            "FROM Conversation c JOIN c.user u LEFT JOIN c.messageList m " +
+            "WHERE (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) " +
+            "AND (:userId IS NULL OR u.userId = :userId) " +
+            "GROUP BY c.conversationId, c.name, c.sessionType, c.createdAt, u.userId, u.userName " +
+            "ORDER BY c.conversationId")
+    Stream<AdminConversationView> streamAdminConversationViews(@Param("from") Date from, @Param("to") Date to, @Param("userId") Long userId);
+
+    @Query(value = "SELECT * FROM conversation c WHERE lower(c.name) LIKE :pattern ESCAPE '\\' " +
+            "ORDER BY c.conversation_id DESC", nativeQuery = true)
+    List<Conversation> searchByNameContaining(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = "SELECT * FROM conversation c WHERE c.user_id = :userId " +
+            "AND (lower(c.name) LIKE :pattern ESCAPE '\\' OR lower(c.name) % :term) " +
+            "ORDER BY similarity(lower(c.name), :term) DESC, c.conversation_id DESC", nativeQuery = true)
+    List<Conversation> searchUserConversationsRanked(@Param("userId") Long userId, @Param("term") String term,
+                                                     @Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = "SELECT * FROM conversation c WHERE c.user_id = :userId AND lower(c.name) COLLATE \"C\" LIKE :prefix ESCAPE '\\' " +
+            "ORDER BY lower(c.name) COLLATE \"C\", c.conversation_id", nativeQuery = true)
+    List<Conversation> searchUserConversationsByPrefix(@Param("userId") Long userId, @Param("prefix") String prefix, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Conversation c SET c.summary = :summary, c.summaryCreatedAt = :summaryCreatedAt, c.summaryMessageId = :summaryMessageId " +
+            "WHERE c.conversationId = :conversationId")
+    int updateSummary(@Param("conversationId") Long conversationId, @Param("summary") String summary,
+                      @Param("summaryCreatedAt") Date summaryCreatedAt, @Param("summaryMessageId") Long summaryMessageId);
 }
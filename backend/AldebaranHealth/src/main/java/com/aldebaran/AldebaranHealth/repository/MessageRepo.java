@@ -2,13 +2,33 @@ package com.aldebaran.AldebaranHealth.repository;
 
 import com.aldebaran.AldebaranHealth.enums.SenderType;
 import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.repository.projection.MessageSearchView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MessageRepo extends JpaRepository<Message, Long> {
+    String SEARCH_USER_MESSAGES_SQL = "SELECT ranked.message_id AS \"messageId\", ranked.conversation_id AS \"conversationId\", " +
+            "ranked.conversation_name AS \"conversationName\", ranked.sender_type AS \"senderType\", ranked.created_at AS \"createdAt\", " +
+            "ranked.rank AS \"rank\", ts_headline('english', ranked.content, websearch_to_tsquery('english', :query), " +
+            "'StartSel=**, StopSel=**, MaxFragments=2, MaxWords=24, MinWords=8') AS \"snippet\" " +
+            "FROM (SELECT m.message_id, m.conversation_id, c.name AS conversation_name, m.sender_type, m.created_at, m.content, " +
+            "ts_rank_cd(m.content_tsv, websearch_to_tsquery('english', :query)) AS rank " +
+            "FROM message m JOIN conversation c ON c.conversation_id = m.conversation_id " +
+            "WHERE c.user_id = :userId AND m.content_tsv @@ websearch_to_tsquery('english', :query) " +
+            "ORDER BY rank DESC, m.message_id DESC LIMIT :limit OFFSET :offset) ranked " +
+            "ORDER BY ranked.rank DESC, ranked.message_id DESC";
+
     Message findByContent(String content);
     List<Message> findByConversation_ConversationIdOrderByCreatedAtAsc(Long conversationId);
 
@@ -16,4 +36,28 @@ public interface MessageRepo extends JpaRepository<Message, Long> {
 
     List<Message> findByConversation_ConversationIdAndSenderType(Long conversationId, SenderType senderType);
 
+    List<Message> findByConversation_ConversationIdOrderByCreatedAtDescMessageIdDesc(Long conversationId, Limit limit);
+
+    List<Message> findByConversation_ConversationIdOrderByCreatedAtAscMessageIdAsc(Long conversationId, Limit limit);
+
+    @Query("SELECT m FROM Message m WHERE m.conversation.conversationId = :conversationId " +
+            "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.messageId < :messageId)) " +
+            "ORDER BY m.createdAt DESC, m.messageId DESC")
+    List<Message> findPageBefore(@Param("conversationId") Long conversationId, @Param("createdAt") Date createdAt, @Param("messageId") Long messageId, Limit limit);
+
+    @Query("SELECT m FROM Message m WHERE m.conversation.conversationId = :conversationId " +
+            "AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.messageId > :messageId)) " +
+            "ORDER BY m.createdAt ASC, m.messageId ASC")
+    List<Message> findPageAfter(@Param("conversationId") Long conversationId, @Param("createdAt") Date createdAt, @Param("messageId") Long messageId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT m FROM Message m JOIN m.conversation c " +
+            "WHERE (:from IS NULL OR m.createdAt >= :from) AND (:to IS NULL OR m.createdAt < :to) " +
+            "AND (:userId IS NULL OR c.user.userId = :userId) ORDER BY m.messageId")
+    Stream<Message> streamForExport(@Param("from") Date from, @Param("to") Date to, @Param("userId") Long userId);
+
+    @Query(value = SEARCH_USER_MESSAGES_SQL, nativeQuery = true)
+    List<MessageSearchView> searchUserMessages(@Param("userId") Long userId, @Param("query") String query,
+                                               @Param("limit") int limit, @Param("offset") int offset);
+
 }
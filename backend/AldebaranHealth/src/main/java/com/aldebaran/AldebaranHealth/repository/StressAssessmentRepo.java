@@ -0,0 +1,10 @@
+package com.aldebaran.AldebaranHealth.repository;
+
+import com.aldebaran.AldebaranHealth.model.StressAssessment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StressAssessmentRepo extends JpaRepository<StressAssessment, Long> {
+    long countByBatchId(String batchId);
+}
@@ -0,0 +1,19 @@
+package com.aldebaran.AldebaranHealth.repository;
+
+import com.aldebaran.AldebaranHealth.enums.RollupPeriod;
+import com.aldebaran.AldebaranHealth.model.StressRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StressRollupRepo extends JpaRepository<StressRollup, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<StressRollup> findByUser_UserIdAndPeriodStartInOrderByPeriodAsc(Long userId, Collection<LocalDate> periodStarts);
+    List<StressRollup> findByUser_UserIdAndPeriodAndPeriodStartBetweenOrderByPeriodStartAsc(Long userId, RollupPeriod period, LocalDate from, LocalDate to);
+}
@@ -4,6 +4,7 @@ import com.aldebaran.AldebaranHealth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +13,5 @@ public interface UserRepo extends JpaRepository<User, Long> {
     Optional<User> findByUserName(String userName);
     boolean existsByEmail(String email);
     boolean existsByUserName(String userName);
+    long countByUserIdIn(Collection<Long> userIds);
 }
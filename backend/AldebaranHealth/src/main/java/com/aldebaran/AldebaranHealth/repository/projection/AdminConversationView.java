@@ -0,0 +1,15 @@
+package com.aldebaran.AldebaranHealth.repository.projection;
+
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+
+import java.util.Date;
+
+public interface AdminConversationView {
+    Long getConversationId();
+    String getName();
+    SessionType getSessionType();
+    Date getCreatedAt();
+    Long getUserId();
+    String getUserName();
+    Long getMessageCount();
+}
@@ -0,0 +1,12 @@
+package com.aldebaran.AldebaranHealth.repository.projection;
+
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+
+import java.util.Date;
+
+public interface ConversationView {
+    Long getConversationId();
+    String getName();
+    SessionType getSessionType();
+    Date getCreatedAt();
+}
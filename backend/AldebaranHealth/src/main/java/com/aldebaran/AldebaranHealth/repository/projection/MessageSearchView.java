@@ -0,0 +1,13 @@
+package com.aldebaran.AldebaranHealth.repository.projection;
+
+import java.util.Date;
+
+public interface MessageSearchView {
+    Long getMessageId();
+    Long getConversationId();
+    String getConversationName();
+    String getSenderType();
+    Date getCreatedAt();
+    Double getRank();
+    String getSnippet();
+}
@@ -0,0 +1,12 @@
+package com.aldebaran.AldebaranHealth.service;
+
+/**
+ * Thrown when the client guard turns a call away before it reaches the provider because the
+ * concurrency limit is full. The limit is shared by all model tiers, so this says nothing about
+ * the health of the tier that was tried.
+ */
+public class AICallRejectedException extends AIUnavailableException {
+    public AICallRejectedException(String message) {
+        super(message);
+    }
+}
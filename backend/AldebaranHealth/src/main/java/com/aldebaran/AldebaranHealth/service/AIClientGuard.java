@@ -0,0 +1,216 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.util.AdaptiveConcurrencyLimiter;
+import com.aldebaran.AldebaranHealth.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Limits concurrency across all AI calls and keeps a circuit breaker per model tier, so one
+ * failing model does not turn away calls to the others.
+ */
+@Service
+public class AIClientGuard {
+    private final Logger logger = LoggerFactory.getLogger(AIClientGuard.class);
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Map<ModelTier, CircuitBreaker> circuitBreakers = new EnumMap<>(ModelTier.class);
+
+    private final long acquireTimeoutNanos;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter limitRejectedCounter;
+    private final Counter circuitRejectedCounter;
+    private final Counter retryCounter;
+    private final Timer attemptSuccessTimer;
+    private final Timer attemptFailureTimer;
+
+    private static final int HALF_OPEN_CALLS = 3;
+
+    @Autowired
+    public AIClientGuard(MeterRegistry meterRegistry,
+                         @Value("${spring.gemini.guard.initial-limit:20}") int initialLimit,
+                         @Value("${spring.gemini.guard.min-limit:2}") int minLimit,
+                         @Value("${spring.gemini.guard.max-limit:200}") int maxLimit,
+                         @Value("${spring.gemini.guard.latency-threshold:15s}") Duration latencyThreshold,
+                         @Value("${spring.gemini.guard.acquire-timeout:2s}") Duration acquireTimeout,
+                         @Value("${spring.gemini.guard.max-attempts:3}") int maxAttempts,
+                         @Value("${spring.gemini.guard.backoff-base:500ms}") Duration backoffBase,
+                         @Value("${spring.gemini.guard.backoff-max:8s}") Duration backoffMax,
+                         @Value("${spring.gemini.guard.breaker.window-size:20}") int windowSize,
+                         @Value("${spring.gemini.guard.breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                         @Value("${spring.gemini.guard.breaker.open-duration:30s}") Duration openDuration) {
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThreshold.toNanos());
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMillis = backoffBase.toMillis();
+        this.backoffMaxMillis = backoffMax.toMillis();
+
+        this.successCounter = callCounter(meterRegistry, "success");
+        this.failureCounter = callCounter(meterRegistry, "failure");
+        this.limitRejectedCounter = callCounter(meterRegistry, "rejected_limit");
+        this.circuitRejectedCounter = callCounter(meterRegistry, "rejected_open");
+        this.retryCounter = Counter.builder("ai.guard.retries")
+                .description("AI call retries after a failed attempt")
+                .register(meterRegistry);
+        this.attemptSuccessTimer = attemptTimer(meterRegistry, "success");
+        this.attemptFailureTimer = attemptTimer(meterRegistry, "failure");
+
+        Gauge.builder("ai.guard.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for AI calls")
+                .register(meterRegistry);
+        Gauge.builder("ai.guard.inflight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("AI calls currently in flight")
+                .register(meterRegistry);
+        for (ModelTier tier : ModelTier.values()) {
+            CircuitBreaker circuitBreaker = new CircuitBreaker(windowSize, failureRateThreshold, openDuration, HALF_OPEN_CALLS);
+            circuitBreakers.put(tier, circuitBreaker);
+            for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+                Gauge.builder("ai.guard.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                        .description("1 for the tier's circuit breaker current state, 0 otherwise")
+                        .tag("tier", tier.name().toLowerCase())
+                        .tag("state", state.name().toLowerCase())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Runs a call against one model tier. Failed attempts are retried with backoff only when
+     * {@code retry} is set; callers with another tier to fail over to should move on instead.
+     */
+    public <T> T execute(ModelTier tier, boolean retry, Supplier<T> aiCall) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(tier);
+        return execute(tier, retry, aiCall, (result, startTime) -> {
+            recordSuccess(circuitBreaker, System.nanoTime() - startTime);
+            return result;
+        });
+    }
+
+    /**
+     * Opens a stream under the guard. Only opening is retried; the permit is held until the
+     * stream is closed and the outcome is recorded then.
+     */
+    public AIResponseStream executeStream(ModelTier tier, boolean retry, Supplier<AIResponseStream> streamCall) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(tier);
+        return execute(tier, retry, streamCall, (stream, startTime) -> new TrackedResponseStream(stream, (outcome, firstChunkAt) -> {
+            switch (outcome) {
+                case COMPLETED -> recordSuccess(circuitBreaker, firstChunkAt - startTime);
+                case FAILED -> recordFailure(circuitBreaker, firstChunkAt - startTime);
+                case ABANDONED -> recordIgnore(circuitBreaker);
+            }
+        }));
+    }
+
+    private <T> T execute(ModelTier tier, boolean retry, Supplier<T> aiCall, BiFunction<T, Long, T> onAdmitted) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(tier);
+        int attempts = retry ? maxAttempts : 1;
+        for (int attempt = 1; ; attempt++) {
+            if (!concurrencyLimiter.tryAcquire(acquireTimeoutNanos)) {
+                limitRejectedCounter.increment();
+                logger.warn("AI call rejected, concurrency limit {} reached", concurrencyLimiter.getLimit());
+                throw new AICallRejectedException("AI service is at its concurrency limit");
+            }
+
+            if (!circuitBreaker.tryAcquire()) {
+                concurrencyLimiter.onIgnore();
+                circuitRejectedCounter.increment();
+                logger.warn("AI call rejected, {} tier circuit breaker is {}", tier, circuitBreaker.getState());
+                throw new AIUnavailableException("AI model tier " + tier + " circuit breaker is open");
+            }
+
+            long startTime = System.nanoTime();
+            try {
+                return onAdmitted.apply(aiCall.get(), startTime);
+            } catch (IllegalArgumentException e) {
+                recordIgnore(circuitBreaker);
+                throw e;
+            } catch (RuntimeException e) {
+                recordFailure(circuitBreaker, System.nanoTime() - startTime);
+                logger.warn("AI call on {} tier failed on attempt {} of {}: {}", tier, attempt, attempts, e.getMessage());
+
+                if (attempt >= attempts) {
+                    logger.error("Failed to generate AI response on {} tier after {} attempts", tier, attempts);
+                    throw new AIUnavailableException("AI service unavailable after " + attempts + " attempts: " + e.getMessage(), e);
+                }
+            }
+
+            retryCounter.increment();
+            sleep(backoffMillis(attempt));
+        }
+    }
+
+    private void recordSuccess(CircuitBreaker circuitBreaker, long latencyNanos) {
+        concurrencyLimiter.onSuccess(latencyNanos);
+        circuitBreaker.onSuccess();
+        attemptSuccessTimer.record(Duration.ofNanos(latencyNanos));
+        successCounter.increment();
+    }
+
+    private void recordFailure(CircuitBreaker circuitBreaker, long latencyNanos) {
+        concurrencyLimiter.onFailure();
+        circuitBreaker.onFailure();
+        attemptFailureTimer.record(Duration.ofNanos(latencyNanos));
+        failureCounter.increment();
+    }
+
+    private void recordIgnore(CircuitBreaker circuitBreaker) {
+        concurrencyLimiter.onIgnore();
+        circuitBreaker.onIgnore();
+    }
+
+    public CircuitBreaker.State getCircuitState(ModelTier tier) {
+        return circuitBreakers.get(tier).getState();
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimiter.getLimit();
+    }
+
+    // Full jitter: a random delay up to the capped exponential backoff, so retries from many threads spread out
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(backoffMaxMillis, backoffBaseMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIUnavailableException("AI request interrupted", e);
+        }
+    }
+
+    private Timer attemptTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("ai.guard.upstream.latency")
+                .description("Latency of each AI call attempt admitted by the guard, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("ai.guard.calls")
+                .description("AI call attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
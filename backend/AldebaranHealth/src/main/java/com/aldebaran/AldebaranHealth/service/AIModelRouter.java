@@ -0,0 +1,224 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Picks the model tier for each AI call. Small talk goes to the lite tier, long
+ * prompts to the pro tier, everything else to standard, capped by the user's tier.
+ * Tiers that are failing or slow are moved to the back of the order so callers
+ * fail over to the nearest healthy tier.
+ */
+@Service
+public class AIModelRouter {
+    private final Logger logger = LoggerFactory.getLogger(AIModelRouter.class);
+    private final Map<ModelTier, TierState> tiers = new EnumMap<>(ModelTier.class);
+    private final boolean enabled;
+    private final ModelTier defaultUserTier;
+    private final int complexMinTokens;
+    private final int complexMinChars;
+    private final long degradedLatencyNanos;
+    private final long probeIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry meterRegistry;
+
+    private static final int HALF_OPEN_CALLS = 3;
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final Pattern SMALL_TALK = Pattern.compile(
+            "(hi|hello|hey|thanks|thank you|thank you so much|thx|ty|ok|okay|cool|great|nice|got it|bye|goodbye|good night|see you)( again| a lot| then)?");
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{Punct}\\s]+");
+
+    @Autowired
+    public AIModelRouter(MeterRegistry meterRegistry,
+                         @Value("${spring.gemini.routing.enabled:true}") boolean enabled,
+                         @Value("${spring.gemini.routing.lite-model:gemini-2.5-flash-lite}") String liteModel,
+                         @Value("${spring.gemini.routing.standard-model:gemini-2.5-flash}") String standardModel,
+                         @Value("${spring.gemini.routing.pro-model:gemini-2.5-pro}") String proModel,
+                         @Value("${spring.gemini.routing.default-user-tier:STANDARD}") ModelTier defaultUserTier,
+                         @Value("${spring.gemini.routing.complex-min-tokens:1500}") int complexMinTokens,
+                         @Value("${spring.gemini.routing.complex-min-chars:1200}") int complexMinChars,
+                         @Value("${spring.gemini.routing.health.window-size:20}") int windowSize,
+                         @Value("${spring.gemini.routing.health.failure-rate-threshold:0.5}") double failureRateThreshold,
+                         @Value("${spring.gemini.routing.health.open-duration:30s}") Duration openDuration,
+                         @Value("${spring.gemini.routing.health.degraded-latency:12s}") Duration degradedLatency,
+                         @Value("${spring.gemini.routing.health.probe-interval:30s}") Duration probeInterval) {
+        this(meterRegistry, enabled, Map.of(ModelTier.LITE, liteModel, ModelTier.STANDARD, standardModel, ModelTier.PRO, proModel),
+                defaultUserTier, complexMinTokens, complexMinChars, windowSize, failureRateThreshold, openDuration,
+                degradedLatency, probeInterval, System::nanoTime);
+    }
+
+    AIModelRouter(MeterRegistry meterRegistry, boolean enabled, Map<ModelTier, String> models, ModelTier defaultUserTier,
+                  int complexMinTokens, int complexMinChars, int windowSize, double failureRateThreshold, Duration openDuration,
+                  Duration degradedLatency, Duration probeInterval, LongSupplier nanoClock) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.defaultUserTier = defaultUserTier;
+        this.complexMinTokens = complexMinTokens;
+        this.complexMinChars = complexMinChars;
+        this.degradedLatencyNanos = degradedLatency.toNanos();
+        this.probeIntervalNanos = probeInterval.toNanos();
+        this.nanoClock = nanoClock;
+
+        for (ModelTier tier : ModelTier.values()) {
+            CircuitBreaker breaker = new CircuitBreaker(windowSize, failureRateThreshold, openDuration, HALF_OPEN_CALLS, nanoClock);
+            Timer latencyTimer = Timer.builder("ai.model.latency")
+                    .description("Latency of AI calls per model tier")
+                    .tag("tier", tier.name().toLowerCase())
+                    .tag("model", models.get(tier))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            tiers.put(tier, new TierState(models.get(tier), breaker, latencyTimer));
+        }
+    }
+
+    /**
+     * Tiers to try for this prompt, preferred tier first. Tiers below the preferred one
+     * come next (cheaper and usually faster), then tiers above it up to the user's cap.
+     */
+    public List<ModelTier> route(PromptContext promptContext) {
+        ModelTier ceiling = promptContext.getUserTier() != null ? promptContext.getUserTier() : defaultUserTier;
+        if (!enabled) {
+            return route(ModelTier.STANDARD, ModelTier.STANDARD, "disabled");
+        }
+
+        ModelTier classified = classify(promptContext);
+        if (classified.compareTo(ceiling) > 0) {
+            return route(ceiling, ceiling, "user_tier");
+        }
+        return route(classified, ceiling, classified == ModelTier.LITE ? "trivial" : classified == ModelTier.PRO ? "complex" : "default");
+    }
+
+    public List<ModelTier> route(ModelTier preferred) {
+        return route(preferred, preferred, "fixed");
+    }
+
+    public String model(ModelTier tier) {
+        return tiers.get(tier).model;
+    }
+
+    public boolean tryAcquire(ModelTier tier) {
+        return tiers.get(tier).breaker.tryAcquire();
+    }
+
+    public void onSuccess(ModelTier tier, long latencyNanos) {
+        TierState state = tiers.get(tier);
+        state.breaker.onSuccess();
+        state.recordLatency(latencyNanos, nanoClock.getAsLong());
+    }
+
+    public void onFailure(ModelTier tier, long latencyNanos) {
+        TierState state = tiers.get(tier);
+        state.breaker.onFailure();
+        state.recordLatency(latencyNanos, nanoClock.getAsLong());
+    }
+
+    public void onIgnore(ModelTier tier) {
+        tiers.get(tier).breaker.onIgnore();
+    }
+
+    public void onFailover(ModelTier from, ModelTier to) {
+        decisionCounter(to, "failover").increment();
+        logger.warn("AI call failing over from {} to {} tier", from, to);
+    }
+
+    boolean isHealthy(ModelTier tier) {
+        TierState state = tiers.get(tier);
+        if (!state.breaker.isCallPermitted()) {
+            return false;
+        }
+
+        // A slow tier is retried once the probe interval passes, otherwise it would never get traffic to recover
+        return state.latencyNanos() <= degradedLatencyNanos || nanoClock.getAsLong() - state.lastSampleAt() >= probeIntervalNanos;
+    }
+
+    ModelTier classify(PromptContext promptContext) {
+        String latest = promptContext.getLatestUserContent();
+        String normalized = latest == null ? "" : PUNCTUATION.matcher(latest.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+
+        if (SMALL_TALK.matcher(normalized).matches()) {
+            return ModelTier.LITE;
+        }
+        if (promptContext.getPromptTokens() >= complexMinTokens || (latest != null && latest.length() >= complexMinChars)) {
+            return ModelTier.PRO;
+        }
+        return ModelTier.STANDARD;
+    }
+
+    private List<ModelTier> route(ModelTier preferred, ModelTier ceiling, String reason) {
+        List<ModelTier> order = new ArrayList<>();
+        order.add(preferred);
+        for (int i = preferred.ordinal() - 1; i >= 0; i--) {
+            order.add(ModelTier.values()[i]);
+        }
+        for (int i = preferred.ordinal() + 1; i <= ceiling.ordinal(); i++) {
+            order.add(ModelTier.values()[i]);
+        }
+
+        List<ModelTier> healthy = new ArrayList<>();
+        List<ModelTier> degraded = new ArrayList<>();
+        for (ModelTier tier : order) {
+            (isHealthy(tier) ? healthy : degraded).add(tier);
+        }
+        healthy.addAll(degraded);
+
+        String decision = healthy.get(0) == preferred ? reason : "degraded";
+        decisionCounter(healthy.get(0), decision).increment();
+        logger.debug("Routed AI call to {} tier ({}), fallback order {}", healthy.get(0), decision, healthy);
+        return healthy;
+    }
+
+    private Counter decisionCounter(ModelTier tier, String reason) {
+        return Counter.builder("ai.routing.decisions")
+                .description("AI model routing decisions by chosen tier and reason")
+                .tag("tier", tier.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static class TierState {
+        private final String model;
+        private final CircuitBreaker breaker;
+        private final Timer latencyTimer;
+        private double smoothedLatencyNanos;
+        private long lastSampleAt;
+        private boolean sampled;
+
+        TierState(String model, CircuitBreaker breaker, Timer latencyTimer) {
+            this.model = model;
+            this.breaker = breaker;
+            this.latencyTimer = latencyTimer;
+        }
+
+        synchronized void recordLatency(long latencyNanos, long now) {
+            latencyTimer.record(Duration.ofNanos(latencyNanos));
+            smoothedLatencyNanos = sampled ? smoothedLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - smoothedLatencyNanos) : latencyNanos;
+            lastSampleAt = now;
+            sampled = true;
+        }
+
+        synchronized long latencyNanos() {
+            return (long) smoothedLatencyNanos;
+        }
+
+        synchronized long lastSampleAt() {
+            return lastSampleAt;
+        }
+    }
+}
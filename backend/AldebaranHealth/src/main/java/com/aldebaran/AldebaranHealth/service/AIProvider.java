@@ -0,0 +1,10 @@
+package com.aldebaran.AldebaranHealth.service;
+
+public interface AIProvider {
+
+    String generateContent(String model, String prompt);
+
+    String generateContent(String model, PromptContext promptContext);
+
+    AIResponseStream generateContentStream(String model, PromptContext promptContext);
+}
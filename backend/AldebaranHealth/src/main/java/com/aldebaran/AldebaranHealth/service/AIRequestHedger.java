@@ -0,0 +1,219 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Service
+public class AIRequestHedger {
+    private final Logger logger = LoggerFactory.getLogger(AIRequestHedger.class);
+    private final ExecutorService aiExecutor;
+    private final boolean enabled;
+    private final double percentile;
+    private final long minSamples;
+    private final double budgetRatio;
+
+    private final Timer upstreamTimer;
+    private final Counter requestCounter;
+    private final Counter hedgeCounter;
+    private final Counter hedgeWonCounter;
+    private final Counter budgetExhaustedCounter;
+
+    private static final double MAX_BUDGET_TOKENS = 10;
+    private double budgetTokens;
+
+    @Autowired
+    public AIRequestHedger(ExecutorService aiExecutor, MeterRegistry meterRegistry,
+                           @Value("${spring.gemini.hedge.enabled:false}") boolean enabled,
+                           @Value("${spring.gemini.hedge.percentile:0.95}") double percentile,
+                           @Value("${spring.gemini.hedge.min-samples:20}") long minSamples,
+                           @Value("${spring.gemini.hedge.budget-ratio:0.1}") double budgetRatio,
+                           @Value("${spring.gemini.hedge.window:5m}") Duration window) {
+        this.aiExecutor = aiExecutor;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.budgetRatio = budgetRatio;
+
+        this.upstreamTimer = Timer.builder("ai.hedge.upstream.latency")
+                .description("Latency of individual upstream AI calls, used to pick the hedge delay")
+                .publishPercentiles(percentile)
+                .distributionStatisticExpiry(window)
+                .register(meterRegistry);
+        this.requestCounter = hedgeCounter(meterRegistry, "ai.hedge.requests", "Requests eligible for hedging");
+        this.hedgeCounter = hedgeCounter(meterRegistry, "ai.hedge.fired", "Hedge requests sent after the primary exceeded the delay");
+        this.hedgeWonCounter = hedgeCounter(meterRegistry, "ai.hedge.won", "Hedge requests that answered before the primary");
+        this.budgetExhaustedCounter = hedgeCounter(meterRegistry, "ai.hedge.budget.exhausted", "Hedges skipped because the hedge budget was spent");
+
+        Gauge.builder("ai.hedge.delay", this, hedger -> {
+                    Duration delay = hedger.hedgeDelay();
+                    return delay == null ? Double.NaN : delay.toMillis();
+                })
+                .description("Current hedge delay in milliseconds")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> aiCall) {
+        if (!enabled) {
+            return aiCall.get();
+        }
+
+        requestCounter.increment();
+        depositBudget();
+
+        Duration delay = hedgeDelay();
+        Attempt<T> primary = start(aiCall);
+        Attempt<T> hedge = null;
+
+        try {
+            if (delay != null) {
+                try {
+                    return primary.result().get(delay.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (tryWithdrawBudget()) {
+                        hedgeCounter.increment();
+                        logger.info("AI call exceeded hedge delay of {}ms, sending hedge request", delay.toMillis());
+                        hedge = start(aiCall);
+                    } else {
+                        budgetExhaustedCounter.increment();
+                    }
+                }
+            }
+
+            if (hedge == null) {
+                return primary.result().get();
+            }
+
+            return firstSuccessful(primary.result(), hedge.result()).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIUnavailableException("AI request interrupted", e);
+        } finally {
+            primary.cancel();
+            if (hedge != null) {
+                hedge.cancel();
+            }
+        }
+    }
+
+    private Duration hedgeDelay() {
+        if (upstreamTimer.count() < minSamples) {
+            return null;
+        }
+
+        for (ValueAtPercentile value : upstreamTimer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile && value.value() > 0) {
+                return Duration.ofNanos((long) value.value(TimeUnit.NANOSECONDS));
+            }
+        }
+        return null;
+    }
+
+    private <T> Attempt<T> start(Supplier<T> aiCall) {
+        Attempt<T> attempt = new Attempt<>(System.nanoTime());
+        attempt.task = aiExecutor.submit(() -> {
+            try {
+                T value = aiCall.get();
+                attempt.recordElapsed();
+                attempt.result.complete(value);
+            } catch (Throwable e) {
+                attempt.result.completeExceptionally(e);
+            }
+        });
+        return attempt;
+    }
+
+    private <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        primary.whenComplete((value, error) -> settle(winner, failures, value, error));
+        hedge.whenComplete((value, error) -> {
+            if (settle(winner, failures, value, error)) {
+                hedgeWonCounter.increment();
+            }
+        });
+        return winner;
+    }
+
+    private <T> boolean settle(CompletableFuture<T> winner, AtomicInteger failures, T value, Throwable error) {
+        if (error == null) {
+            return winner.complete(value);
+        }
+
+        if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(error);
+        }
+        return false;
+    }
+
+    // Token bucket: every request earns budgetRatio of a hedge, so hedges stay under that share of traffic
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + budgetRatio);
+    }
+
+    private synchronized boolean tryWithdrawBudget() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+
+        budgetTokens -= 1;
+        return true;
+    }
+
+    private Counter hedgeCounter(MeterRegistry meterRegistry, String name, String description) {
+        return Counter.builder(name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    // A cancelled attempt is recorded at the time it was abandoned, so slow upstreams still pull the hedge delay up
+    private class Attempt<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private final long startTime;
+        private volatile Future<?> task;
+
+        Attempt(long startTime) {
+            this.startTime = startTime;
+        }
+
+        CompletableFuture<T> result() {
+            return result;
+        }
+
+        void recordElapsed() {
+            if (recorded.compareAndSet(false, true)) {
+                upstreamTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void cancel() {
+            if (!result.isDone()) {
+                recordElapsed();
+                task.cancel(true);
+            }
+        }
+    }
+}
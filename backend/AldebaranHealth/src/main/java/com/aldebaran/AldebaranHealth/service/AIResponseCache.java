@@ -0,0 +1,156 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+@Service
+public class AIResponseCache {
+    private final Logger logger = LoggerFactory.getLogger(AIResponseCache.class);
+    private final AsyncCache<String, CachedResponse> responseCache;
+    private final boolean enabled;
+    private final int maxContextTurns;
+
+    private final Counter hitCounter;
+    private final Counter coalescedCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+    private final Timer latencySavedTimer;
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{Punct}\\p{IsPunctuation}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Autowired
+    public AIResponseCache(MeterRegistry meterRegistry,
+                           @Value("${spring.gemini.cache.enabled:true}") boolean enabled,
+                           @Value("${spring.gemini.cache.max-size:10000}") long maxSize,
+                           @Value("${spring.gemini.cache.ttl:1h}") Duration ttl,
+                           @Value("${spring.gemini.cache.max-context-turns:1}") int maxContextTurns) {
+        this.enabled = enabled;
+        this.maxContextTurns = maxContextTurns;
+        this.responseCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+
+        this.hitCounter = resultCounter(meterRegistry, "hit");
+        this.coalescedCounter = resultCounter(meterRegistry, "coalesced");
+        this.missCounter = resultCounter(meterRegistry, "miss");
+        this.bypassCounter = resultCounter(meterRegistry, "bypass");
+        this.latencySavedTimer = Timer.builder("ai.cache.latency.saved")
+                .description("Upstream AI latency avoided by serving a cached or coalesced response")
+                .register(meterRegistry);
+
+        Gauge.builder("ai.cache.size", responseCache, cache -> cache.synchronous().estimatedSize())
+                .description("Cached AI responses")
+                .register(meterRegistry);
+    }
+
+    public String get(String model, PromptContext promptContext, Supplier<String> upstreamCall) {
+        if (!enabled || !promptContext.isCacheable() || promptContext.getTurns().size() > maxContextTurns) {
+            bypassCounter.increment();
+            return upstreamCall.get();
+        }
+
+        String key = cacheKey(model, promptContext);
+        CompletableFuture<CachedResponse> pending = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> existing = responseCache.asMap().putIfAbsent(key, pending);
+
+        if (existing != null) {
+            (existing.isDone() ? hitCounter : coalescedCounter).increment();
+            try {
+                CachedResponse cachedResponse = existing.join();
+                latencySavedTimer.record(Duration.ofNanos(cachedResponse.upstreamNanos()));
+                return cachedResponse.response();
+            } catch (CompletionException e) {
+                logger.warn("Coalesced AI call failed: {}", e.getMessage());
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        missCounter.increment();
+        long startTime = System.nanoTime();
+        try {
+            String response = upstreamCall.get();
+            pending.complete(new CachedResponse(response, System.nanoTime() - startTime));
+            return response;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidateAll() {
+        responseCache.synchronous().invalidateAll();
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.cache.requests")
+                .description("AI response cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String cacheKey(String model, PromptContext promptContext) {
+        List<Message> turns = promptContext.getTurns();
+
+        MessageDigest digest = sha256();
+        updateDigest(digest, model);
+        updateDigest(digest, promptContext.getSummary());
+        for (Message turn : turns.subList(0, turns.size() - 1)) {
+            updateDigest(digest, turn.getSenderType().name());
+            updateDigest(digest, turn.getContent());
+        }
+        updateDigest(digest, normalize(promptContext.getLatestUserContent()));
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String normalize(String prompt) {
+        if (prompt == null) {
+            return "";
+        }
+
+        String stripped = PUNCTUATION.matcher(prompt.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        return WHITESPACE.matcher(stripped).replaceAll(" ").trim();
+    }
+
+    private void updateDigest(MessageDigest digest, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedResponse(String response, long upstreamNanos) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.aldebaran.AldebaranHealth.service;
+
+/**
+ * Text chunks of a streamed AI reply, in arrival order. Closing the stream
+ * releases the upstream connection even if it has not been fully consumed.
+ */
+public interface AIResponseStream extends Iterable<String>, AutoCloseable {
+
+    @Override
+    void close();
+}
@@ -0,0 +1,153 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.util.RequestTiming;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+@Service
+public class AIService {
+    private final Logger logger = LoggerFactory.getLogger(AIService.class);
+    private final AIProvider aiProvider;
+    private final AIModelRouter aiModelRouter;
+    private final AIResponseCache aiResponseCache;
+    private final AIClientGuard aiClientGuard;
+    private final AIRequestHedger aiRequestHedger;
+
+    @Autowired
+    public AIService(AIProvider aiProvider, AIModelRouter aiModelRouter, AIResponseCache aiResponseCache,
+                     AIClientGuard aiClientGuard, AIRequestHedger aiRequestHedger) {
+        this.aiProvider = aiProvider;
+        this.aiModelRouter = aiModelRouter;
+        this.aiResponseCache = aiResponseCache;
+        this.aiClientGuard = aiClientGuard;
+        this.aiRequestHedger = aiRequestHedger;
+    }
+
+    public String generateAIResponse(String message) {
+        if (message == null || message.trim().isEmpty()) {
+            throw new IllegalArgumentException("Message cannot be empty");
+        }
+
+        logger.info("Generating AI response for message: '{}'", message);
+
+        return withFailover(aiModelRouter.route(ModelTier.STANDARD),
+                (tier, retry) -> generateWithRetry(tier, retry, () -> aiProvider.generateContent(aiModelRouter.model(tier), message.trim())));
+    }
+
+    public String generateAIResponse(PromptContext promptContext) {
+        if (promptContext == null || promptContext.getTurns().isEmpty()) {
+            throw new IllegalArgumentException("Prompt context cannot be empty");
+        }
+
+        logger.info("Generating AI response with {} turns (~{} prompt tokens)", promptContext.getTurns().size(), promptContext.getPromptTokens());
+
+        return withFailover(aiModelRouter.route(promptContext), (tier, retry) -> {
+            String model = aiModelRouter.model(tier);
+            return aiResponseCache.get(model, promptContext,
+                    () -> generateWithRetry(tier, retry, () -> aiProvider.generateContent(model, promptContext)));
+        });
+    }
+
+    private String generateWithRetry(ModelTier tier, boolean retry, Supplier<String> aiCall) {
+        return guarded(tier, retry, () -> aiRequestHedger.execute(() -> {
+            long startTime = System.currentTimeMillis();
+
+            String response = aiCall.get();
+
+            long processingTime = System.currentTimeMillis() - startTime;
+
+            if (response == null || response.trim().isEmpty()) {
+                throw new RuntimeException("AI response is empty or null");
+            }
+
+            logger.info("AI response generated successfully on {} tier (processing time: {}ms)", tier, processingTime);
+            return response;
+        }));
+    }
+
+    public AIResponseStream generateAIResponseStream(PromptContext promptContext) {
+        if (promptContext == null || promptContext.getTurns().isEmpty()) {
+            throw new IllegalArgumentException("Prompt context cannot be empty");
+        }
+
+        logger.info("Streaming AI response with {} turns (~{} prompt tokens)", promptContext.getTurns().size(), promptContext.getPromptTokens());
+
+        return withFailover(aiModelRouter.route(promptContext),
+                (tier, retry) -> guardedStream(tier, retry, () -> aiProvider.generateContentStream(aiModelRouter.model(tier), promptContext)));
+    }
+
+    // Only the last tier in the order retries; the others fail over on their first failure
+    private <T> T withFailover(List<ModelTier> tiers, BiFunction<ModelTier, Boolean, T> tierCall) {
+        RuntimeException lastFailure = null;
+        for (int i = 0; i < tiers.size(); i++) {
+            if (i > 0) {
+                aiModelRouter.onFailover(tiers.get(i - 1), tiers.get(i));
+            }
+
+            try {
+                return tierCall.apply(tiers.get(i), i == tiers.size() - 1);
+            } catch (IllegalArgumentException | AICallRejectedException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                lastFailure = e;
+            }
+        }
+        throw lastFailure;
+    }
+
+    private <T> T guarded(ModelTier tier, boolean retry, Supplier<T> aiCall) {
+        if (!aiModelRouter.tryAcquire(tier)) {
+            throw new AIUnavailableException("AI model tier " + tier + " is unavailable");
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            T result = aiClientGuard.execute(tier, retry, aiCall);
+            aiModelRouter.onSuccess(tier, System.nanoTime() - startTime);
+            return result;
+        } catch (IllegalArgumentException | AICallRejectedException e) {
+            aiModelRouter.onIgnore(tier);
+            throw e;
+        } catch (RuntimeException e) {
+            aiModelRouter.onFailure(tier, System.nanoTime() - startTime);
+            throw e;
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.AI, System.nanoTime() - startTime);
+        }
+    }
+
+    private AIResponseStream guardedStream(ModelTier tier, boolean retry, Supplier<AIResponseStream> streamCall) {
+        if (!aiModelRouter.tryAcquire(tier)) {
+            throw new AIUnavailableException("AI model tier " + tier + " is unavailable");
+        }
+
+        long startTime = System.nanoTime();
+        AIResponseStream stream;
+        try {
+            stream = aiClientGuard.executeStream(tier, retry, streamCall);
+        } catch (IllegalArgumentException | AICallRejectedException e) {
+            aiModelRouter.onIgnore(tier);
+            throw e;
+        } catch (RuntimeException e) {
+            aiModelRouter.onFailure(tier, System.nanoTime() - startTime);
+            throw e;
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.AI, System.nanoTime() - startTime);
+        }
+
+        return new TrackedResponseStream(stream, (outcome, firstChunkAt) -> {
+            switch (outcome) {
+                case COMPLETED -> aiModelRouter.onSuccess(tier, firstChunkAt - startTime);
+                case FAILED -> aiModelRouter.onFailure(tier, firstChunkAt - startTime);
+                case ABANDONED -> aiModelRouter.onIgnore(tier);
+            }
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.dto.request.ConversationImportRequest;
+import com.aldebaran.AldebaranHealth.dto.request.MessageImportRequest;
+import com.aldebaran.AldebaranHealth.dto.response.BulkImportResponse;
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.repository.UserRepo;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkImportService {
+    private final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+    private final UserRepo userRepo;
+    private final EntityManager entityManager;
+    private final ResourceVersionService resourceVersionService;
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    @Autowired
+    public BulkImportService(UserRepo userRepo, EntityManager entityManager, ResourceVersionService resourceVersionService) {
+        this.userRepo = userRepo;
+        this.entityManager = entityManager;
+        this.resourceVersionService = resourceVersionService;
+    }
+
+    @Transactional
+    public BulkImportResponse importConversations(List<ConversationImportRequest> conversationRequests) {
+        try {
+            if (conversationRequests == null || conversationRequests.isEmpty()) {
+                throw new IllegalArgumentException("Import cannot be empty");
+            }
+
+            Set<Long> userIds = validate(conversationRequests);
+
+            long startTime = System.currentTimeMillis();
+            long conversations = 0;
+            long messages = 0;
+            int pendingRows = 0;
+
+            for (ConversationImportRequest conversationRequest : conversationRequests) {
+                Conversation conversation = new Conversation();
+                conversation.setUser(entityManager.getReference(User.class, conversationRequest.getUserId()));
+                conversation.setName(conversationRequest.getName());
+                conversation.setSessionType(conversationRequest.getSessionType() == null ? SessionType.DOCTOR : conversationRequest.getSessionType());
+                conversation.setCreatedAt(conversationRequest.getCreatedAt() == null ? new Date() : conversationRequest.getCreatedAt());
+                entityManager.persist(conversation);
+                conversations++;
+                pendingRows++;
+
+                if (conversationRequest.getMessages() != null) {
+                    for (MessageImportRequest messageRequest : conversationRequest.getMessages()) {
+                        Message message = new Message();
+                        message.setConversation(conversation);
+                        message.setContent(messageRequest.getContent());
+                        message.setSenderType(messageRequest.getSenderType());
+                        message.setCreatedAt(messageRequest.getCreatedAt() == null ? conversation.getCreatedAt() : messageRequest.getCreatedAt());
+                        entityManager.persist(message);
+                        messages++;
+                        pendingRows++;
+                    }
+                }
+
+                if (pendingRows >= FLUSH_EVERY_ROWS) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    pendingRows = 0;
+                }
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+            resourceVersionService.bumpUsers(userIds);
+
+            long durationMs = System.currentTimeMillis() - startTime;
+            logger.info("Imported {} conversations and {} messages in {}ms", conversations, messages, durationMs);
+            return new BulkImportResponse(conversations, messages, durationMs);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid import request: {}", e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            logger.error("Failed to import conversations: {}", e.getMessage());
+            throw new RuntimeException("Failed to import conversations", e);
+        }
+    }
+
+    private Set<Long> validate(List<ConversationImportRequest> conversationRequests) {
+        for (ConversationImportRequest conversationRequest : conversationRequests) {
+            if (conversationRequest.getUserId() == null) {
+                throw new IllegalArgumentException("Every imported conversation needs a userId");
+            }
+
+            if (conversationRequest.getMessages() == null) {
+                continue;
+            }
+
+            for (MessageImportRequest messageRequest : conversationRequest.getMessages()) {
+                if (messageRequest.getContent() == null || messageRequest.getContent().isEmpty()) {
+                    throw new IllegalArgumentException("Imported message content cannot be empty");
+                }
+                if (messageRequest.getSenderType() == null) {
+                    throw new IllegalArgumentException("Imported message needs a senderType");
+                }
+            }
+        }
+
+        Set<Long> userIds = conversationRequests.stream()
+                .map(ConversationImportRequest::getUserId)
+                .collect(Collectors.toSet());
+        if (userRepo.countByUserIdIn(userIds) != userIds.size()) {
+            throw new IllegalArgumentException("Import references unknown users");
+        }
+
+        return userIds;
+    }
+}
@@ -0,0 +1,181 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.repository.ConversationRepo;
+import com.aldebaran.AldebaranHealth.repository.MessageRepo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+@Service
+public class ConversationContextService {
+    private final Logger logger = LoggerFactory.getLogger(ConversationContextService.class);
+    private final MessageRepo messageRepo;
+    private final ConversationRepo conversationRepo;
+    private final AIService aiService;
+    private final ExecutorService aiExecutor;
+    private final DistributionSummary promptTokensSummary;
+    private final Set<Long> summariesInProgress = ConcurrentHashMap.newKeySet();
+
+    private final int maxTurns;
+    private final int tokenBudget;
+    private final int summaryBatch;
+
+    private static final int CHARS_PER_TOKEN = 4;
+
+    @Autowired
+    public ConversationContextService(MessageRepo messageRepo, ConversationRepo conversationRepo, AIService aiService,
+                                      ExecutorService aiExecutor, MeterRegistry meterRegistry,
+                                      @Value("${spring.gemini.context.max-turns:10}") int maxTurns,
+                                      @Value("${spring.gemini.context.token-budget:4000}") int tokenBudget,
+                                      @Value("${spring.gemini.context.summary-batch:20}") int summaryBatch) {
+        this.messageRepo = messageRepo;
+        this.conversationRepo = conversationRepo;
+        this.aiService = aiService;
+        this.aiExecutor = aiExecutor;
+        this.maxTurns = maxTurns;
+        this.tokenBudget = tokenBudget;
+        this.summaryBatch = summaryBatch;
+        this.promptTokensSummary = DistributionSummary.builder("ai.prompt.tokens")
+                .description("Estimated prompt tokens sent to the AI model per request")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+    }
+
+    public PromptContext buildContext(Conversation conversation) {
+        Long conversationId = conversation.getConversationId();
+        String summary = conversation.getSummary();
+        int usedTokens = estimateTokens(summary);
+
+        List<Message> recentMessages = messageRepo.findByConversation_ConversationIdOrderByCreatedAtDescMessageIdDesc(conversationId, Limit.of(maxTurns * 2));
+
+        List<Message> turns = new ArrayList<>();
+        for (Message message : recentMessages) {
+            if (isSummarized(conversation, message)) {
+                break;
+            }
+
+            if (isFailurePlaceholder(message)) {
+                continue;
+            }
+
+            int messageTokens = estimateTokens(message.getContent());
+            if (!turns.isEmpty() && usedTokens + messageTokens > tokenBudget) {
+                break;
+            }
+
+            turns.add(message);
+            usedTokens += messageTokens;
+        }
+        Collections.reverse(turns);
+
+        promptTokensSummary.record(usedTokens);
+        logger.info("Built prompt context for conversation {} with {} turns (~{} tokens)", conversationId, turns.size(), usedTokens);
+
+        return new PromptContext(summary, turns, usedTokens);
+    }
+
+    public void refreshSummaryAsync(Long conversationId) {
+        if (!summariesInProgress.add(conversationId)) {
+            return;
+        }
+
+        aiExecutor.execute(() -> {
+            try {
+                refreshSummary(conversationId);
+            } catch (Exception e) {
+                logger.error("Failed to refresh summary for conversation {}: {}", conversationId, e.getMessage());
+            } finally {
+                summariesInProgress.remove(conversationId);
+            }
+        });
+    }
+
+    /**
+     * Folds every message that has dropped out of the recent window built by {@link #buildContext}
+     * into the running summary, at most {@code summaryBatch} messages per model call, so each
+     * message is always either summarized or sent as a turn.
+     */
+    public void refreshSummary(Long conversationId) {
+        while (foldOldestIntoSummary(conversationId)) {
+            logger.info("Summary for conversation {} is still behind the recent window, folding the next batch", conversationId);
+        }
+    }
+
+    private boolean foldOldestIntoSummary(Long conversationId) {
+        Conversation conversation = conversationRepo.findById(conversationId)
+                .orElseThrow(() -> new RuntimeException("No conversation found with ID: " + conversationId));
+
+        int window = maxTurns * 2;
+        Limit fetchLimit = Limit.of(window + summaryBatch);
+        List<Message> unsummarized = conversation.getSummaryMessageId() == null
+                ? messageRepo.findByConversation_ConversationIdOrderByCreatedAtAscMessageIdAsc(conversationId, fetchLimit)
+                : messageRepo.findPageAfter(conversationId, conversation.getSummaryCreatedAt(), conversation.getSummaryMessageId(), fetchLimit);
+
+        if (unsummarized.size() <= window) {
+            return false;
+        }
+
+        List<Message> batch = unsummarized.subList(0, unsummarized.size() - window);
+        List<Message> summarizable = batch.stream()
+                .filter(message -> !isFailurePlaceholder(message))
+                .toList();
+        Message lastSummarized = batch.get(batch.size() - 1);
+
+        String summary = conversation.getSummary();
+        if (!summarizable.isEmpty()) {
+            StringBuilder prompt = new StringBuilder()
+                    .append("Update the running summary of a health support conversation. ")
+                    .append("Keep the user's concerns, symptoms, advice already given and any commitments. ")
+                    .append("Reply with the updated summary only, in at most 200 words.\n\n");
+
+            if (conversation.getSummary() != null) {
+                prompt.append("Current summary:\n").append(conversation.getSummary()).append("\n\n");
+            }
+
+            prompt.append("New messages:\n");
+            for (Message message : summarizable) {
+                prompt.append(message.getSenderType() == SenderType.USER ? "User: " : "Assistant: ")
+                        .append(message.getContent())
+                        .append('\n');
+            }
+
+            summary = aiService.generateAIResponse(prompt.toString()).trim();
+        }
+
+        conversationRepo.updateSummary(conversationId, summary, lastSummarized.getCreatedAt(), lastSummarized.getMessageId());
+        logger.info("Summary refreshed for conversation {} up to message {}", conversationId, lastSummarized.getMessageId());
+        return unsummarized.size() == window + summaryBatch;
+    }
+
+    private boolean isSummarized(Conversation conversation, Message message) {
+        if (conversation.getSummaryMessageId() == null) {
+            return false;
+        }
+
+        int compared = message.getCreatedAt().compareTo(conversation.getSummaryCreatedAt());
+        return compared < 0 || (compared == 0 && message.getMessageId() <= conversation.getSummaryMessageId());
+    }
+
+    private boolean isFailurePlaceholder(Message message) {
+        return message.getSenderType() == SenderType.AI && MessageService.AI_FAILED_MESSAGE.equals(message.getContent());
+    }
+
+    private int estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+}
@@ -3,40 +3,55 @@ package com.aldebaran.AldebaranHealth.service;
 import com.aldebaran.AldebaranHealth.dto.request.ConversationRequest;
 import com.aldebaran.AldebaranHealth.enums.SessionType;
 import com.aldebaran.AldebaranHealth.model.Conversation;
-import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.model.UserPrincipal;
 import com.aldebaran.AldebaranHealth.repository.ConversationRepo;
 import com.aldebaran.AldebaranHealth.repository.UserRepo;
+import com.aldebaran.AldebaranHealth.repository.projection.ConversationView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
 import java.util.List;
 
 @Service
 public class ConversationService {
     private final Logger logger = LoggerFactory.getLogger(ConversationService.class);
     private final ConversationRepo conversationRepo;
-
     private final UserRepo userRepo;
+
+    private final UserPrincipalCache userPrincipalCache;
+    private final ResourceVersionService resourceVersionService;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+
     @Autowired
-    public ConversationService(ConversationRepo conversationRepo, UserRepo userRepo) {
+    public ConversationService(ConversationRepo conversationRepo, UserRepo userRepo, UserPrincipalCache userPrincipalCache, ResourceVersionService resourceVersionService) {
         this.conversationRepo = conversationRepo;
         this.userRepo = userRepo;
+        this.userPrincipalCache = userPrincipalCache;
+        this.resourceVersionService = resourceVersionService;
     }
 
     public Conversation createConversation(String email, ConversationRequest conversationRequest) {
         try {
-            User user = userRepo.findByEmail(email).orElseThrow(() -> new RuntimeException("Failed to get a conversation by email" + email));
+            UserPrincipal user = userPrincipalCache.findByEmail(email).orElseThrow(() -> new RuntimeException("Failed to get a conversation by email" + email));
 
             Conversation newConversation = new Conversation();
 
             newConversation.setName(conversationRequest.getTitle());
-            newConversation.setUser(user);
+            newConversation.setUser(userRepo.getReferenceById(user.getUserId()));
             newConversation.setSessionType(SessionType.DOCTOR);
+            newConversation.setCreatedAt(new Date());
+
+            Conversation savedConversation = conversationRepo.save(newConversation);
+            resourceVersionService.bumpUser(user.getUserId());
 
             logger.info("Conversation created successfully for user" + email);
-            return conversationRepo.save(newConversation);
+            return savedConversation;
 
         } catch (RuntimeException e) {
             logger.error("Failed to create a conversation");
@@ -44,19 +59,26 @@ public class ConversationService {
         }
     }
 
-    public List<Conversation> searchUserConversationsByName(String userEmail, String searchTerm) {
+    public List<Conversation> searchUserConversationsByName(String userEmail, String searchTerm, boolean prefixMode, int page, int size) {
         try {
             if (searchTerm == null || searchTerm.trim().isEmpty()) {
-                throw new RuntimeException("Search term cannot be empty");
+                throw new IllegalArgumentException("Search term cannot be empty");
             }
 
-            User user = userRepo.findByEmail(userEmail)
+            UserPrincipal user = userPrincipalCache.findByEmail(userEmail)
                     .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
 
-            List<Conversation> allUserConversations = conversationRepo.findByUser(user);
-            return allUserConversations.stream()
-                    .filter(conv -> conv.getName().toLowerCase().contains(searchTerm.toLowerCase()))
-                    .toList();
+            String term = searchTerm.trim().toLowerCase();
+            Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE)));
+
+            if (prefixMode) {
+                return conversationRepo.searchUserConversationsByPrefix(user.getUserId(), escapeLikePattern(term) + "%", pageable);
+            }
+
+            return conversationRepo.searchUserConversationsRanked(user.getUserId(), term, "%" + escapeLikePattern(term) + "%", pageable);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid search term for user {}: {}", userEmail, e.getMessage());
+            throw e;
         } catch (RuntimeException e) {
             logger.error("Failed to search conversations for user {} with term '{}': {}", userEmail, searchTerm, e.getMessage());
             throw e;
@@ -67,11 +89,11 @@ public class ConversationService {
     }
 
 
-    public List<Conversation> getConversationsByUser(String email) {
+    public List<ConversationView> getConversationsByUser(String email) {
         try {
-            User user = userRepo.findByEmail(email).orElseThrow(() -> new RuntimeException("Failed to get a conversation by email" + email));
+            UserPrincipal user = userPrincipalCache.findByEmail(email).orElseThrow(() -> new RuntimeException("Failed to get a conversation by email" + email));
 
-            List<Conversation> conversationList = conversationRepo.findByUser(user);
+            List<ConversationView> conversationList = conversationRepo.findByUser_UserIdOrderByConversationIdDesc(user.getUserId());
 
             return conversationList;
         } catch (RuntimeException e) {
@@ -80,21 +102,14 @@ public class ConversationService {
         }
     }
 
-    public List<Conversation> getAllConversations() {
-        try {
-            List<Conversation> conversationList = conversationRepo.findAll();
-
-            logger.info("Successfully find all conversations");
-            return conversationList;
-        } catch (RuntimeException e) {
-            logger.error("Failed to get a all conversations");
-            throw new RuntimeException("Failed to get all conversations", e);
-        }
-    }
-
     public void deleteConversation(Long conversationId) {
         try {
-            conversationRepo.deleteById(conversationId);
+            Conversation conversation = conversationRepo.findById(conversationId)
+                    .orElseThrow(() -> new RuntimeException("No conversation found with ID: " + conversationId));
+
+            conversationRepo.delete(conversation);
+            resourceVersionService.bumpUser(conversation.getUser().getUserId());
+            resourceVersionService.bumpConversation(conversationId);
             logger.info("Successfully delete conversation by id");
         } catch (RuntimeException e) {
             logger.error("Failed to delete conversation by id");
@@ -105,7 +120,8 @@ public class ConversationService {
 
     public List<Conversation> searchConversationByName(String name) {
         try {
-            List<Conversation> conversationByName = conversationRepo.findByNameContainingIgnoreCase(name);
+            String pattern = "%" + escapeLikePattern(name.trim().toLowerCase()) + "%";
+            List<Conversation> conversationByName = conversationRepo.searchByNameContaining(pattern, PageRequest.of(0, MAX_SEARCH_PAGE_SIZE));
 
             logger.info("Successfully search conversations by name");
             return conversationByName;
@@ -115,4 +131,9 @@ public class ConversationService {
         }
     }
 
+    private String escapeLikePattern(String term) {
+        return term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
@@ -0,0 +1,77 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.dto.response.AdminConversationResponse;
+import com.aldebaran.AldebaranHealth.dto.response.MessageExportResponse;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.repository.ConversationRepo;
+import com.aldebaran.AldebaranHealth.repository.MessageRepo;
+import com.aldebaran.AldebaranHealth.repository.projection.AdminConversationView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+    private final Logger logger = LoggerFactory.getLogger(ExportService.class);
+    private final MessageRepo messageRepo;
+    private final ConversationRepo conversationRepo;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    static final int FLUSH_EVERY_ROWS = 500;
+    private static final byte NEWLINE = '\n';
+
+    @Autowired
+    public ExportService(MessageRepo messageRepo, ConversationRepo conversationRepo, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.messageRepo = messageRepo;
+        this.conversationRepo = conversationRepo;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportMessages(Date from, Date to, Long userId, OutputStream outputStream) throws IOException {
+        try (Stream<Message> messages = messageRepo.streamForExport(from, to, userId)) {
+            long exported = writeNdjson(messages.map(MessageExportResponse::new), outputStream);
+            logger.info("Exported {} messages", exported);
+            return exported;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportConversations(Date from, Date to, Long userId, OutputStream outputStream) throws IOException {
+        try (Stream<AdminConversationView> conversations = conversationRepo.streamAdminConversationViews(from, to, userId)) {
+            long exported = writeNdjson(conversations.map(AdminConversationResponse::new), outputStream);
+            logger.info("Exported {} conversations", exported);
+            return exported;
+        }
+    }
+
+    private <T> long writeNdjson(Stream<T> rows, OutputStream outputStream) throws IOException {
+        long written = 0;
+        Iterator<T> iterator = rows.iterator();
+
+        while (iterator.hasNext()) {
+            outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+            outputStream.write(NEWLINE);
+
+            if (++written % FLUSH_EVERY_ROWS == 0) {
+                outputStream.flush();
+                entityManager.clear();
+            }
+        }
+
+        outputStream.flush();
+        return written;
+    }
+}
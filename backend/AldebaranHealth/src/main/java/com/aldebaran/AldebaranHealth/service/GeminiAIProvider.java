@@ -0,0 +1,84 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.google.genai.Client;
+import com.google.genai.ResponseStream;
+import com.google.genai.types.Content;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.Part;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("!ai-stub")
+public class GeminiAIProvider implements AIProvider {
+    private final Client aiClient;
+
+    @Autowired
+    public GeminiAIProvider(Client aiClient) {
+        this.aiClient = aiClient;
+    }
+
+    @Override
+    public String generateContent(String model, String prompt) {
+        return aiClient.models.generateContent(model, prompt, null).text();
+    }
+
+    @Override
+    public String generateContent(String model, PromptContext promptContext) {
+        return aiClient.models.generateContent(model, toContents(promptContext), toConfig(promptContext)).text();
+    }
+
+    @Override
+    public AIResponseStream generateContentStream(String model, PromptContext promptContext) {
+        ResponseStream<GenerateContentResponse> responseStream = aiClient.models.generateContentStream(model, toContents(promptContext), toConfig(promptContext));
+
+        return new AIResponseStream() {
+            @Override
+            public Iterator<String> iterator() {
+                Iterator<GenerateContentResponse> chunks = responseStream.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return chunks.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        return chunks.next().text();
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                responseStream.close();
+            }
+        };
+    }
+
+    private List<Content> toContents(PromptContext promptContext) {
+        return promptContext.getTurns().stream()
+                .map(turn -> Content.builder()
+                        .role(turn.getSenderType() == SenderType.USER ? "user" : "model")
+                        .parts(Part.fromText(turn.getContent()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private GenerateContentConfig toConfig(PromptContext promptContext) {
+        if (promptContext.getSummary() == null || promptContext.getSummary().isBlank()) {
+            return null;
+        }
+
+        return GenerateContentConfig.builder()
+                .systemInstruction(Content.fromParts(Part.fromText("Summary of the earlier conversation with this user:\n" + promptContext.getSummary())))
+                .build();
+    }
+}
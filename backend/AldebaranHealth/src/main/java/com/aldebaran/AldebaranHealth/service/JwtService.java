@@ -1,19 +1,27 @@
 package com.aldebaran.AldebaranHealth.service;
 
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import io.jsonwebtoken.Claims;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -21,17 +29,50 @@ import java.util.function.Function;
 public class JwtService {
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
-    @Value("${spring.security.jwt.secret-key}")
-    private String jwtSecretKey;
+    private final Long expirationTime;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final Map<String, Claims> verifiedClaimsCache;
+
+    @Autowired
+    public JwtService(@Value("${spring.security.jwt.secret-key}") String jwtSecretKey,
+                      @Value("${spring.security.jwt.expiration}") Long expirationTime,
+                      @Value("${spring.security.jwt.claims-cache-size:10000}") int claimsCacheSize) {
+        this.expirationTime = expirationTime;
+        this.signingKey = buildSigningKey(jwtSecretKey);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedClaimsCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > claimsCacheSize;
+            }
+        });
+    }
+
+    public Claims verifyToken(String jwtToken) {
+        String tokenHash = hashToken(jwtToken);
+        Claims cachedClaims = verifiedClaimsCache.get(tokenHash);
 
-    @Value("${spring.security.jwt.expiration}")
-    private Long expirationTime;
+        if (cachedClaims != null) {
+            if (!isExpired(cachedClaims)) {
+                return cachedClaims;
+            }
+            verifiedClaimsCache.remove(tokenHash);
+        }
+
+        Claims claims = extractAllClaims(jwtToken);
+        if (claims.getExpiration() != null && !isExpired(claims)) {
+            verifiedClaimsCache.put(tokenHash, claims);
+        }
+
+        return claims;
+    }
 
     public Claims extractAllClaims(String jwtToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            return jwtParser
                     .parseSignedClaims(jwtToken)
                     .getPayload();
         } catch (Exception e) {
@@ -42,7 +83,7 @@ public class JwtService {
 
     public <T> T extractClaims(String jwtToken, Function<Claims, T> claimsResolver) {
         try {
-            final Claims claims = extractAllClaims(jwtToken);
+            final Claims claims = verifyToken(jwtToken);
             return claimsResolver.apply(claims);
         } catch (Exception e) {
             logger.error("Failed to extract claims", e.getMessage());
@@ -92,7 +133,7 @@ public class JwtService {
                     .claims(claims)
                     .issuedAt(new Date(System.currentTimeMillis()))
                     .expiration(new Date(System.currentTimeMillis() + expirationTime))
-                    .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                    .signWith(signingKey, SignatureAlgorithm.HS256)
                     .compact();
 
             logger.info("Successfully build jwt token");
@@ -105,20 +146,39 @@ public class JwtService {
 
     public boolean isTokenValid(String jwtToken, UserDetails userDetails) {
         try {
-            String userName = userDetails.getUsername();
-
-            return userName.equals(extractUserName(jwtToken)) && !isTokenExpired(jwtToken);
+            return isTokenValid(verifyToken(jwtToken), userDetails);
         } catch (Exception e) {
             logger.error("Failed to check if token is valid", e.getMessage());
             throw new RuntimeException("Failed to check if token is valid", e);
         }
     }
 
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && !isExpired(claims);
+    }
+
     public Long getExpirationTime() {
         return expirationTime;
     }
 
     public SecretKey getSigningKey() {
+        return signingKey;
+    }
+
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
+    }
+
+    private String hashToken(String jwtToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwtToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static SecretKey buildSigningKey(String jwtSecretKey) {
         try {
             byte[] secretKeyBytes = Decoders.BASE64.decode(jwtSecretKey);
             return Keys.hmacShaKeyFor(secretKeyBytes);
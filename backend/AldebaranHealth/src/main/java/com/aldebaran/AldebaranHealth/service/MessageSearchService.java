@@ -0,0 +1,51 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.dto.response.MessageSearchResponse;
+import com.aldebaran.AldebaranHealth.model.UserPrincipal;
+import com.aldebaran.AldebaranHealth.repository.MessageRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class MessageSearchService {
+    private final Logger logger = LoggerFactory.getLogger(MessageSearchService.class);
+    private final MessageRepo messageRepo;
+    private final UserPrincipalCache userPrincipalCache;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+
+    @Autowired
+    public MessageSearchService(MessageRepo messageRepo, UserPrincipalCache userPrincipalCache) {
+        this.messageRepo = messageRepo;
+        this.userPrincipalCache = userPrincipalCache;
+    }
+
+    public List<MessageSearchResponse> searchUserMessages(String userEmail, String query, int page, int size) {
+        try {
+            if (query == null || query.trim().isEmpty()) {
+                throw new IllegalArgumentException("Search query cannot be empty");
+            }
+
+            UserPrincipal user = userPrincipalCache.findByEmail(userEmail)
+                    .orElseThrow(() -> new RuntimeException("User not found with email: " + userEmail));
+
+            int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+            int offset = Math.max(page, 0) * pageSize;
+
+            return messageRepo.searchUserMessages(user.getUserId(), query.trim(), pageSize, offset).stream()
+                    .map(MessageSearchResponse::new)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid message search query: {}", e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            logger.error("Failed to search messages: {}", e.getMessage());
+            throw e;
+        }
+    }
+}
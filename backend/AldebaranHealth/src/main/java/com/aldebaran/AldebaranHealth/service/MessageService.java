@@ -1,20 +1,32 @@
 package com.aldebaran.AldebaranHealth.service;
 
 import com.aldebaran.AldebaranHealth.dto.request.MessageRequest;
+import com.aldebaran.AldebaranHealth.dto.response.MessagePageResponse;
 import com.aldebaran.AldebaranHealth.dto.response.MessageResponse;
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
 import com.aldebaran.AldebaranHealth.enums.SenderType;
 import com.aldebaran.AldebaranHealth.model.Conversation;
 import com.aldebaran.AldebaranHealth.model.Message;
 import com.aldebaran.AldebaranHealth.repository.ConversationRepo;
 import com.aldebaran.AldebaranHealth.repository.MessageRepo;
-import com.google.genai.types.GenerateContentResponse;
+import com.aldebaran.AldebaranHealth.util.MessageCursor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,16 +34,37 @@ public class MessageService {
     private final Logger logger = LoggerFactory.getLogger(MessageService.class);
     private final MessageRepo messageRepo;
     private final ConversationRepo conversationRepo;
-    private final GeminiAIService geminiAIService;
+    private final AIService aiService;
+    private final ConversationContextService conversationContextService;
+    private final ExecutorService aiExecutor;
+    private final ResourceVersionService resourceVersionService;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary userMessageSize;
+    private final DistributionSummary aiMessageSize;
+
+    private static final long STREAM_TIMEOUT_MS = 120000;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    static final String AI_FAILED_MESSAGE = "AI Failed to generate response, Please try again";
 
     @Autowired
-    public MessageService(MessageRepo messageRepo, ConversationRepo conversationRepo, GeminiAIService geminiAIService) {
+    public MessageService(MessageRepo messageRepo, ConversationRepo conversationRepo, AIService aiService,
+                          ConversationContextService conversationContextService, ExecutorService aiExecutor,
+                          ResourceVersionService resourceVersionService, MeterRegistry meterRegistry) {
         this.messageRepo = messageRepo;
         this.conversationRepo = conversationRepo;
-        this.geminiAIService = geminiAIService;
+        this.aiService = aiService;
+        this.conversationContextService = conversationContextService;
+        this.aiExecutor = aiExecutor;
+        this.resourceVersionService = resourceVersionService;
+        this.meterRegistry = meterRegistry;
+        this.userMessageSize = messageSizeSummary(meterRegistry, SenderType.USER);
+        this.aiMessageSize = messageSizeSummary(meterRegistry, SenderType.AI);
     }
 
-    public List<MessageResponse> createMessage(Long conversationId, MessageRequest messageRequest) {
+    public MessagePageResponse createMessage(Long conversationId, MessageRequest messageRequest, ModelTier userTier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
 
             if (messageRequest.getContent() == null || messageRequest.getContent().trim().isEmpty()) {
@@ -48,81 +81,217 @@ public class MessageService {
             userMessage.setSenderType(SenderType.USER);
             userMessage.setCreatedAt(new Date());
 
-            messageRepo.save(userMessage);
+            List<Message> createdMessages = new ArrayList<>();
+            createdMessages.add(messageRepo.save(userMessage));
+            resourceVersionService.bumpConversation(conversationId);
+            userMessageSize.record(userMessage.getContent().length());
             logger.info("User message saved for conversation: {}", conversationId);
 
+            Message aiMessage = new Message();
+            aiMessage.setConversation(conversationById);
+            aiMessage.setSenderType(SenderType.AI);
+            outcome = "success";
+
             // Generate AI Response
             try {
-                GenerateContentResponse aiResponse = geminiAIService.generateAIResponse(messageRequest.getContent());
-
-                if (aiResponse != null && aiResponse.text() != null && !aiResponse.text().trim().isEmpty()) {
-                    Message aiMessage = new Message();
-                    aiMessage.setContent(aiResponse.text().trim());
-                    aiMessage.setConversation(conversationById);
-                    aiMessage.setSenderType(SenderType.AI);
-                    aiMessage.setCreatedAt(new Date());
+                PromptContext promptContext = conversationContextService.buildContext(conversationById).withUserTier(userTier);
+                if (messageRequest.isPersonalized()) {
+                    promptContext = promptContext.withoutCaching();
+                }
+                String aiResponse = aiService.generateAIResponse(promptContext);
 
-                    messageRepo.save(aiMessage);
-                    logger.info("AI Message saved for conversation: {}", conversationId);
+                if (aiResponse != null && !aiResponse.trim().isEmpty()) {
+                    aiMessage.setContent(aiResponse.trim());
                 } else {
                     logger.warn("AI Response is empty or null: {}", conversationId);
+                    aiMessage.setContent(AI_FAILED_MESSAGE);
+                    outcome = "ai_failed";
                 }
             } catch (Exception e) {
-
-                Message aiErrorMessage = new Message();
-                aiErrorMessage.setConversation(conversationById);
-                aiErrorMessage.setContent("AI Failed to generate response, Please try again");
-                aiErrorMessage.setSenderType(SenderType.AI);
-                aiErrorMessage.setCreatedAt(new Date());
-
-                messageRepo.save(aiErrorMessage);
-                logger.info("AI Failed messages saved for conversation: {}", conversationId);
+                logger.warn("AI response failed for conversation {}: {}", conversationId, e.getMessage());
+                aiMessage.setContent(AI_FAILED_MESSAGE);
+                outcome = "ai_failed";
             }
+            aiMessage.setCreatedAt(new Date());
+
+            createdMessages.add(messageRepo.save(aiMessage));
+            resourceVersionService.bumpConversation(conversationId);
+            aiMessageSize.record(aiMessage.getContent().length());
+            logger.info("AI message saved for conversation: {}", conversationId);
 
-            List<Message> allMessages = messageRepo.findByConversation_ConversationIdOrderByCreatedAtAsc(conversationId);
-            return allMessages.stream()
-                    .map(m -> new MessageResponse(m.getContent(), m.getSenderType(), m.getCreatedAt()))
-                    .collect(Collectors.toList());
+            conversationContextService.refreshSummaryAsync(conversationId);
+            return toMessagePage(createdMessages, false);
 
         } catch (IllegalArgumentException e) {
+            outcome = "invalid";
             logger.error("Invalid input for conversation {}: {}", conversationId, e.getMessage());
             throw e;
         } catch (RuntimeException e) {
+            outcome = "error";
             logger.error("Failed to create messages for conversation {}: {}", conversationId, e.getMessage());
             throw e;
         } catch (Exception e) {
+            outcome = "error";
             logger.error("Unexpected error creating messages: {}", e.getMessage());
             throw new RuntimeException("Failed to process message request", e);
+        } finally {
+            sample.stop(Timer.builder("message.create")
+                    .description("End-to-end time to store a user message and its AI reply, by outcome")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
-    public List<MessageResponse> getAllMessages() {
+    public SseEmitter streamMessage(Long conversationId, MessageRequest messageRequest, ModelTier userTier) {
+        if (messageRequest.getContent() == null || messageRequest.getContent().trim().isEmpty()) {
+            throw new IllegalArgumentException("Message cannot be empty");
+        }
+
+        Conversation conversationById = conversationRepo.findById(conversationId)
+                .orElseThrow(() -> new RuntimeException("No conversation found with ID: " + conversationId));
+
+        Message userMessage = new Message();
+        userMessage.setContent(messageRequest.getContent().trim());
+        userMessage.setConversation(conversationById);
+        userMessage.setSenderType(SenderType.USER);
+        userMessage.setCreatedAt(new Date());
+
+        messageRepo.save(userMessage);
+        resourceVersionService.bumpConversation(conversationId);
+        userMessageSize.record(userMessage.getContent().length());
+        logger.info("User message saved for streaming conversation: {}", conversationId);
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        emitter.onTimeout(() -> cancelled.set(true));
+        emitter.onError(e -> cancelled.set(true));
+        emitter.onCompletion(() -> cancelled.set(true));
+
+        aiExecutor.execute(() -> streamAIResponse(conversationById, userTier, emitter, cancelled));
+        return emitter;
+    }
+
+    private void streamAIResponse(Conversation conversation, ModelTier userTier, SseEmitter emitter, AtomicBoolean cancelled) {
+        Long conversationId = conversation.getConversationId();
+        StringBuilder aiContent = new StringBuilder();
+
+        try (AIResponseStream responseStream = aiService.generateAIResponseStream(conversationContextService.buildContext(conversation).withUserTier(userTier))) {
+            for (String token : responseStream) {
+                if (cancelled.get()) {
+                    break;
+                }
+
+                if (token == null || token.isEmpty()) {
+                    continue;
+                }
+
+                aiContent.append(token);
+                emitter.send(SseEmitter.event().name("token").data(token));
+            }
+        } catch (IOException e) {
+            cancelled.set(true);
+            logger.warn("Client disconnected from stream for conversation {}: {}", conversationId, e.getMessage());
+        } catch (Exception e) {
+            logger.error("AI stream failed for conversation {}: {}", conversationId, e.getMessage());
+        }
+
+        Message aiMessage = new Message();
+        aiMessage.setContent(aiContent.toString().trim().isEmpty() ? AI_FAILED_MESSAGE : aiContent.toString().trim());
+        aiMessage.setConversation(conversation);
+        aiMessage.setSenderType(SenderType.AI);
+        aiMessage.setCreatedAt(new Date());
+
         try {
-            List<Message> allMessages = messageRepo.findAll();
-            return allMessages.stream()
-                    .map(m -> new MessageResponse(m.getContent(), m.getSenderType(), m.getCreatedAt()))
-                    .collect(Collectors.toList());
+            messageRepo.save(aiMessage);
+            resourceVersionService.bumpConversation(conversationId);
+            aiMessageSize.record(aiMessage.getContent().length());
+            logger.info("Streamed AI message saved for conversation: {} (cancelled: {})", conversationId, cancelled.get());
+            conversationContextService.refreshSummaryAsync(conversationId);
         } catch (Exception e) {
-            logger.error("Failed to get all messages: {}", e.getMessage());
-            throw new RuntimeException("Failed to retrieve messages", e);
+            logger.error("Failed to save streamed AI message for conversation {}: {}", conversationId, e.getMessage());
+            emitter.completeWithError(e);
+            return;
+        }
+
+        if (cancelled.get()) {
+            return;
+        }
+
+        try {
+            MessageResponse messageResponse = new MessageResponse(aiMessage);
+            emitter.send(SseEmitter.event().name("done").data(messageResponse));
+            emitter.complete();
+        } catch (IOException e) {
+            logger.warn("Client disconnected before stream completion for conversation {}: {}", conversationId, e.getMessage());
+            emitter.completeWithError(e);
         }
     }
 
-    public List<MessageResponse> getMessageById(Long conversationId) {
+    public MessagePageResponse getMessagePage(Long conversationId, Integer limit, String before, String after) {
         try {
-            conversationRepo.findById(conversationId)
-                    .orElseThrow(() -> new RuntimeException("No conversation found with ID: " + conversationId));
+            if (before != null && after != null) {
+                throw new IllegalArgumentException("Only one of before or after cursor can be provided");
+            }
 
-            List<Message> messagesListById = messageRepo.findByConversation_ConversationIdOrderByCreatedAtAsc(conversationId);
-            return messagesListById.stream()
-                    .map(m -> new MessageResponse(m.getContent(), m.getSenderType(), m.getCreatedAt()))
-                    .collect(Collectors.toList());
+            if (!conversationRepo.existsById(conversationId)) {
+                throw new RuntimeException("No conversation found with ID: " + conversationId);
+            }
+
+            int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            Limit fetchLimit = Limit.of(pageSize + 1);
+
+            List<Message> messages;
+            if (after != null) {
+                MessageCursor afterCursor = MessageCursor.decode(after);
+                messages = messageRepo.findPageAfter(conversationId, afterCursor.getCreatedAt(), afterCursor.getMessageId(), fetchLimit);
+            } else if (before != null) {
+                MessageCursor beforeCursor = MessageCursor.decode(before);
+                messages = messageRepo.findPageBefore(conversationId, beforeCursor.getCreatedAt(), beforeCursor.getMessageId(), fetchLimit);
+            } else {
+                messages = messageRepo.findByConversation_ConversationIdOrderByCreatedAtDescMessageIdDesc(conversationId, fetchLimit);
+            }
+
+            boolean hasMore = messages.size() > pageSize;
+            List<Message> page = new ArrayList<>(messages.subList(0, Math.min(pageSize, messages.size())));
+            if (after == null) {
+                Collections.reverse(page);
+            }
+
+            return toMessagePage(page, hasMore);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid page request for conversation {}: {}", conversationId, e.getMessage());
+            throw e;
         } catch (RuntimeException e) {
-            logger.error("Failed to get messages for conversation {}: {}", conversationId, e.getMessage());
+            logger.error("Failed to get message page for conversation {}: {}", conversationId, e.getMessage());
             throw e;
-        } catch (Exception e) {
-            logger.error("Unexpected error getting messages: {}", e.getMessage());
-            throw new RuntimeException("Failed to retrieve conversation messages", e);
         }
     }
+
+    private DistributionSummary messageSizeSummary(MeterRegistry meterRegistry, SenderType senderType) {
+        return DistributionSummary.builder("message.content.size")
+                .description("Length of stored message content")
+                .baseUnit("characters")
+                .tag("sender", senderType.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private MessagePageResponse toMessagePage(List<Message> messages, boolean hasMore) {
+        List<MessageResponse> messageResponses = messages.stream()
+                .map(MessageResponse::new)
+                .collect(Collectors.toList());
+
+        if (messages.isEmpty()) {
+            return new MessagePageResponse(messageResponses, null, null, hasMore);
+        }
+
+        Message first = messages.get(0);
+        Message last = messages.get(messages.size() - 1);
+
+        return new MessagePageResponse(
+                messageResponses,
+                MessageCursor.encode(first.getCreatedAt(), first.getMessageId()),
+                MessageCursor.encode(last.getCreatedAt(), last.getMessageId()),
+                hasMore
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.model.Message;
+
+import java.util.List;
+
+public class PromptContext {
+    private final String summary;
+    private final List<Message> turns;
+    private final int promptTokens;
+    private final boolean cacheable;
+    private final ModelTier userTier;
+
+    public PromptContext(String summary, List<Message> turns, int promptTokens) {
+        this(summary, turns, promptTokens, true);
+    }
+
+    public PromptContext(String summary, List<Message> turns, int promptTokens, boolean cacheable) {
+        this(summary, turns, promptTokens, cacheable, null);
+    }
+
+    public PromptContext(String summary, List<Message> turns, int promptTokens, boolean cacheable, ModelTier userTier) {
+        this.summary = summary;
+        this.turns = turns;
+        this.promptTokens = promptTokens;
+        this.cacheable = cacheable;
+        this.userTier = userTier;
+    }
+
+    public PromptContext withoutCaching() {
+        return new PromptContext(summary, turns, promptTokens, false, userTier);
+    }
+
+    public PromptContext withUserTier(ModelTier userTier) {
+        return new PromptContext(summary, turns, promptTokens, cacheable, userTier);
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public List<Message> getTurns() {
+        return turns;
+    }
+
+    public int getPromptTokens() {
+        return promptTokens;
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    public ModelTier getUserTier() {
+        return userTier;
+    }
+
+    public String getLatestUserContent() {
+        return turns.isEmpty() ? null : turns.get(turns.size() - 1).getContent();
+    }
+}
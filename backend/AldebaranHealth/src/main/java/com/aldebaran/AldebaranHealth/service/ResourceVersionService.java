@@ -0,0 +1,86 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class ResourceVersionService {
+    private final Cache<Long, Long> userVersions;
+    private final Cache<Long, Long> conversationVersions;
+
+    // Versions come from one monotonic clock so an evicted counter never comes back with a value a client already holds
+    private final AtomicLong versionClock = new AtomicLong();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    @Autowired
+    public ResourceVersionService(MeterRegistry meterRegistry,
+                                  @Value("${etag.version-cache.max-size:100000}") long maxSize) {
+        this.userVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.conversationVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userVersions, "userVersions");
+        CaffeineCacheMetrics.monitor(meterRegistry, conversationVersions, "conversationVersions");
+    }
+
+    public String userConversationsETag(Long userId) {
+        return "\"u" + userId + "-" + epoch + "-" + currentVersion(userVersions, userId) + "\"";
+    }
+
+    public String conversationMessagesETag(Long conversationId, String variant) {
+        String variantDigest = UUID.nameUUIDFromBytes(variant.getBytes(StandardCharsets.UTF_8)).toString();
+        return "\"c" + conversationId + "-" + epoch + "-" + currentVersion(conversationVersions, conversationId) + "-" + variantDigest + "\"";
+    }
+
+    public void bumpUser(Long userId) {
+        if (userId != null) {
+            afterCommit(() -> userVersions.put(userId, versionClock.incrementAndGet()));
+        }
+    }
+
+    public void bumpUsers(Collection<Long> userIds) {
+        userIds.forEach(this::bumpUser);
+    }
+
+    public void bumpConversation(Long conversationId) {
+        if (conversationId != null) {
+            afterCommit(() -> conversationVersions.put(conversationId, versionClock.incrementAndGet()));
+        }
+    }
+
+    // Bumping before commit would let a concurrent read pair the new ETag with the old rows
+    private void afterCommit(Runnable bump) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump.run();
+            }
+        });
+    }
+
+    private long currentVersion(Cache<Long, Long> versions, Long key) {
+        return versions.get(key, ignored -> versionClock.incrementAndGet());
+    }
+}
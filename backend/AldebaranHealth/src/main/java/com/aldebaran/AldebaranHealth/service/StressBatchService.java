@@ -0,0 +1,368 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.dto.response.StressBatchResponse;
+import com.aldebaran.AldebaranHealth.enums.BatchStatus;
+import com.aldebaran.AldebaranHealth.model.StressAssessment;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.repository.StressAssessmentRepo;
+import com.aldebaran.AldebaranHealth.repository.UserRepo;
+import com.aldebaran.AldebaranHealth.util.PSS10Scorer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Scores uploaded PSS-10 CSVs without holding them in memory: rows are read in chunks, each
+ * chunk is scored in parallel on the stress batch pool, saved with batched inserts and written
+ * to the results stream before the next chunk is read. Progress is kept in memory per batch.
+ * <p>
+ * The upload needs a header naming {@code q1} to {@code q10}; an {@code id} column is copied
+ * to the results. Rows that fail validation are reported in the results and not saved. Rows
+ * past {@code stress.batch.max-rows} are not read: the batch ends as failed with an error row.
+ */
+@Service
+public class StressBatchService {
+    private final Logger logger = LoggerFactory.getLogger(StressBatchService.class);
+
+    private static final String RESULT_HEADER = "line,id,assessment_id,pss10_score,stress_level,predicted_level,"
+            + "confidence,probability_low,probability_moderate,probability_high,error\n";
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final StressScoringService stressScoringService;
+    private final StressAssessmentRepo stressAssessmentRepo;
+    private final UserRepo userRepo;
+    private final ForkJoinPool stressBatchPool;
+    private final int chunkSize;
+    private final long maxRows;
+    private final Cache<String, BatchProgress> batches;
+
+    @Autowired
+    public StressBatchService(StressScoringService stressScoringService, StressAssessmentRepo stressAssessmentRepo, UserRepo userRepo,
+                              ForkJoinPool stressBatchPool,
+                              @Value("${stress.batch.chunk-size:5000}") int chunkSize,
+                              @Value("${stress.batch.max-rows:100000}") long maxRows,
+                              @Value("${stress.batch.progress-ttl:1h}") Duration progressTtl) {
+        this.stressScoringService = stressScoringService;
+        this.stressAssessmentRepo = stressAssessmentRepo;
+        this.userRepo = userRepo;
+        this.stressBatchPool = stressBatchPool;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+        this.batches = Caffeine.newBuilder()
+                .expireAfterAccess(progressTtl)
+                .build();
+    }
+
+    /**
+     * Reads and validates the CSV header and registers the batch, so a malformed upload is
+     * rejected before any results are streamed.
+     */
+    public Upload startBatch(Long userId, InputStream csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+        Columns columns = Columns.parse(reader.readLine());
+
+        BatchProgress progress = new BatchProgress(UUID.randomUUID().toString(), userId);
+        batches.put(progress.batchId, progress);
+        logger.info("Started stress batch {} for user {}", progress.batchId, userId);
+
+        return new Upload(progress, reader, columns);
+    }
+
+    public StressBatchResponse processBatch(Upload upload, OutputStream outputStream) throws IOException {
+        BatchProgress progress = upload.progress;
+
+        try (BufferedReader reader = upload.reader) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+            writer.write(RESULT_HEADER);
+
+            User user = userRepo.getReferenceById(progress.userId);
+            List<String> rows = new ArrayList<>(chunkSize);
+            long[] lineNumbers = new long[chunkSize];
+            long lineNumber = 1;
+            long dataRows = 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (++dataRows > maxRows) {
+                    progress.error = "Upload exceeds the limit of " + maxRows + " rows";
+                    break;
+                }
+
+                lineNumbers[rows.size()] = lineNumber;
+                rows.add(line);
+                if (rows.size() == chunkSize) {
+                    processChunk(progress, user, upload.columns, rows, lineNumbers, writer);
+                    rows.clear();
+                }
+            }
+            if (!rows.isEmpty()) {
+                processChunk(progress, user, upload.columns, rows, lineNumbers, writer);
+            }
+
+            if (progress.error != null) {
+                StringBuilder row = new StringBuilder().append(lineNumber).append(",,,,,,,,,,");
+                appendField(row, progress.error);
+                writer.append(row).append('\n');
+            }
+
+            writer.flush();
+            progress.status = progress.error == null ? BatchStatus.COMPLETED : BatchStatus.FAILED;
+            progress.finishedNanos = System.nanoTime();
+
+            StressBatchResponse response = progress.toResponse();
+            if (progress.error != null) {
+                logger.warn("Stopped stress batch {} after {} rows: {}", progress.batchId, progress.rowsRead, progress.error);
+                return response;
+            }
+            logger.info("Finished stress batch {}: {} saved, {} rejected in {} ms ({} per minute)", progress.batchId,
+                    response.getAssessmentsSaved(), response.getRowsRejected(), response.getDurationMs(), response.getAssessmentsPerMinute());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            progress.error = e.getMessage();
+            progress.status = BatchStatus.FAILED;
+            progress.finishedNanos = System.nanoTime();
+            logger.error("Stress batch {} failed after {} rows: {}", progress.batchId, progress.rowsRead, e.getMessage());
+            throw e;
+        }
+    }
+
+    public Optional<StressBatchResponse> getProgress(String batchId, Long userId) {
+        BatchProgress progress = batches.getIfPresent(batchId);
+        if (progress == null || !progress.userId.equals(userId)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(progress.toResponse());
+    }
+
+    private void processChunk(BatchProgress progress, User user, Columns columns, List<String> rows, long[] lineNumbers, Writer writer) throws IOException {
+        int size = rows.size();
+        StressAssessment[] assessments = new StressAssessment[size];
+        String[] externalIds = new String[size];
+        String[] errors = new String[size];
+
+        stressBatchPool.submit(() -> IntStream.range(0, size).parallel().forEach(i -> {
+            String[] fields = Columns.split(rows.get(i));
+            externalIds[i] = columns.externalId(fields);
+            try {
+                StressAssessment assessment = stressScoringService.assess(columns.answers(fields));
+                assessment.setUser(user);
+                assessment.setBatchId(progress.batchId);
+                assessment.setExternalId(externalIds[i]);
+                assessments[i] = assessment;
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        })).join();
+
+        List<StressAssessment> valid = new ArrayList<>(size);
+        for (StressAssessment assessment : assessments) {
+            if (assessment != null) {
+                valid.add(assessment);
+            }
+        }
+        stressAssessmentRepo.saveAll(valid);
+
+        StringBuilder row = new StringBuilder(128);
+        for (int i = 0; i < size; i++) {
+            row.setLength(0);
+            row.append(lineNumbers[i]).append(',');
+            appendField(row, externalIds[i]);
+
+            StressAssessment assessment = assessments[i];
+            if (assessment != null) {
+                row.append(',').append(assessment.getAssessmentId())
+                        .append(',').append(assessment.getPss10Score())
+                        .append(',').append(assessment.getStressLevel())
+                        .append(',').append(assessment.getPredictedLevel())
+                        .append(',').append(assessment.getConfidence())
+                        .append(',').append(assessment.getProbabilityLow())
+                        .append(',').append(assessment.getProbabilityModerate())
+                        .append(',').append(assessment.getProbabilityHigh())
+                        .append(',');
+            } else {
+                row.append(",,,,,,,,,");
+                appendField(row, errors[i]);
+            }
+            writer.append(row).append('\n');
+        }
+        writer.flush();
+
+        progress.rowsRead += size;
+        progress.assessmentsSaved += valid.size();
+        progress.rowsRejected += size - valid.size();
+        logger.debug("Stress batch {}: {} rows scored", progress.batchId, progress.rowsRead);
+    }
+
+    private static void appendField(StringBuilder row, String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            row.append(value);
+            return;
+        }
+
+        row.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * Handle for an upload whose header has been read; pass it to {@link #processBatch}.
+     */
+    public static final class Upload {
+        private final BatchProgress progress;
+        private final BufferedReader reader;
+        private final Columns columns;
+
+        private Upload(BatchProgress progress, BufferedReader reader, Columns columns) {
+            this.progress = progress;
+            this.reader = reader;
+            this.columns = columns;
+        }
+
+        public String getBatchId() {
+            return progress.batchId;
+        }
+    }
+
+    private record Columns(int[] questions, int id, int width) {
+
+        static Columns parse(String header) {
+            if (header == null) {
+                throw new IllegalArgumentException("CSV upload is empty");
+            }
+
+            String[] names = split(header);
+            int[] questions = new int[PSS10Scorer.QUESTION_COUNT];
+            Arrays.fill(questions, -1);
+            int id = -1;
+            for (int column = 0; column < names.length; column++) {
+                String name = unquote(names[column]).toLowerCase(Locale.ROOT);
+                if (name.equals("id")) {
+                    id = column;
+                } else if (name.matches("q([1-9]|10)")) {
+                    questions[Integer.parseInt(name.substring(1)) - 1] = column;
+                }
+            }
+
+            for (int question : questions) {
+                if (question < 0) {
+                    throw new IllegalArgumentException("CSV header must name columns q1 to q" + PSS10Scorer.QUESTION_COUNT);
+                }
+            }
+            return new Columns(questions, id, names.length);
+        }
+
+        int[] answers(String[] fields) {
+            if (fields.length != width) {
+                throw new IllegalArgumentException("Expected " + width + " columns, found " + fields.length);
+            }
+
+            int[] answers = new int[PSS10Scorer.QUESTION_COUNT];
+            for (int i = 0; i < answers.length; i++) {
+                String value = fields[questions[i]].trim();
+                if (value.length() != 1 || value.charAt(0) < '0' || value.charAt(0) > '9') {
+                    throw new IllegalArgumentException("Response " + (i + 1) + " must be between 0 and " + PSS10Scorer.MAX_RESPONSE);
+                }
+                answers[i] = value.charAt(0) - '0';
+            }
+            return answers;
+        }
+
+        String externalId(String[] fields) {
+            if (id < 0 || id >= fields.length) {
+                return null;
+            }
+
+            String value = unquote(fields[id]);
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * Splits on commas outside double quotes; quotes are kept for {@link #unquote}.
+         */
+        static String[] split(String line) {
+            if (line.indexOf('"') < 0) {
+                return line.split(",", -1);
+            }
+
+            List<String> fields = new ArrayList<>();
+            boolean quoted = false;
+            int start = 0;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ',' && !quoted) {
+                    fields.add(line.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            fields.add(line.substring(start));
+            return fields.toArray(new String[0]);
+        }
+
+        private static String unquote(String value) {
+            String trimmed = value.trim();
+            if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+                return trimmed.substring(1, trimmed.length() - 1).replace("\"\"", "\"");
+            }
+            return trimmed;
+        }
+    }
+
+    /**
+     * Written only by the thread streaming the batch, read by progress requests.
+     */
+    private static final class BatchProgress {
+        private final String batchId;
+        private final Long userId;
+        private final Date startedAt = new Date();
+        private final long startNanos = System.nanoTime();
+        private volatile BatchStatus status = BatchStatus.RUNNING;
+        private volatile long rowsRead;
+        private volatile long assessmentsSaved;
+        private volatile long rowsRejected;
+        private volatile long finishedNanos;
+        private volatile String error;
+
+        private BatchProgress(String batchId, Long userId) {
+            this.batchId = batchId;
+            this.userId = userId;
+        }
+
+        StressBatchResponse toResponse() {
+            long endNanos = status == BatchStatus.RUNNING ? System.nanoTime() : finishedNanos;
+            return new StressBatchResponse(batchId, status, rowsRead, assessmentsSaved, rowsRejected, startedAt,
+                    (endNanos - startNanos) / 1_000_000, error);
+        }
+    }
+}
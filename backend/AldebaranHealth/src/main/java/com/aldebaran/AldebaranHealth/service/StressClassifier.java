@@ -0,0 +1,177 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.StressLevel;
+import com.aldebaran.AldebaranHealth.util.PSS10Scorer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Evaluates the stress predictor's random forest (StandardScaler + RandomForestClassifier)
+ * from the flat arrays written by {@code ai/aldebaran-stress-predictor/export_model.py}.
+ * <p>
+ * Every feature is a small integer, so the scaled value of each possible input is computed
+ * once at load time. Like sklearn, scaling is done in double and the result narrowed to
+ * float before comparing against the double thresholds, which keeps predictions identical to
+ * the Python model. {@link #predict} allocates nothing and is safe to call concurrently.
+ */
+@Component
+public class StressClassifier {
+    private final Logger logger = LoggerFactory.getLogger(StressClassifier.class);
+
+    private static final int MAGIC = 0x50535331;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_FEATURE_VALUE = PSS10Scorer.MAX_SCORE;
+
+    private final StressLevel[] classes;
+    private final float[] scaledFeatures;
+    private final int[] roots;
+    private final int[] feature;
+    private final double[] threshold;
+    private final int[] left;
+    private final int[] right;
+    private final double[] leafProbabilities;
+    private final long checksum;
+
+    @Autowired
+    public StressClassifier(@Value("${stress.model.path:classpath:models/stress-classifier.bin}") Resource model) {
+        CRC32 crc = new CRC32();
+        try (InputStream inputStream = model.getInputStream();
+             DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(inputStream), crc))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a stress classifier export: " + model.getDescription());
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported stress classifier format version " + version);
+            }
+
+            int featureCount = in.readInt();
+            int classCount = in.readInt();
+            int treeCount = in.readInt();
+            int nodeCount = in.readInt();
+            int leafValueCount = in.readInt();
+            if (featureCount != PSS10Scorer.FEATURE_COUNT) {
+                throw new IllegalStateException("Stress classifier expects " + featureCount + " features, PSS-10 provides " + PSS10Scorer.FEATURE_COUNT);
+            }
+
+            this.classes = new StressLevel[classCount];
+            for (int i = 0; i < classCount; i++) {
+                classes[i] = StressLevel.valueOf(in.readUTF().toUpperCase(Locale.ROOT));
+            }
+
+            double[] mean = readDoubles(in, featureCount);
+            double[] scale = readDoubles(in, featureCount);
+            this.scaledFeatures = new float[featureCount * (MAX_FEATURE_VALUE + 1)];
+            for (int f = 0; f < featureCount; f++) {
+                for (int value = 0; value <= MAX_FEATURE_VALUE; value++) {
+                    scaledFeatures[f * (MAX_FEATURE_VALUE + 1) + value] = (float) ((value - mean[f]) / scale[f]);
+                }
+            }
+
+            this.roots = readInts(in, treeCount);
+            this.feature = readInts(in, nodeCount);
+            this.threshold = readDoubles(in, nodeCount);
+            this.left = readInts(in, nodeCount);
+            this.right = readInts(in, nodeCount);
+            this.leafProbabilities = readDoubles(in, leafValueCount);
+
+            long computed = crc.getValue();
+            this.checksum = in.readLong();
+            if (computed != checksum) {
+                throw new IllegalStateException("Stress classifier checksum mismatch in " + model.getDescription());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load stress classifier from " + model.getDescription(), e);
+        }
+
+        logger.info("Loaded stress classifier: {} trees, {} nodes, classes {}, checksum {}",
+                roots.length, feature.length, Arrays.toString(classes), Long.toHexString(checksum));
+    }
+
+    /**
+     * Writes the averaged class probabilities into {@code probabilities} (ordered as
+     * {@link #getClasses()}) and returns the index of the predicted class.
+     *
+     * @param features PSS-10 feature vector as filled by {@link PSS10Scorer#features}
+     */
+    public int predict(int[] features, double[] probabilities) {
+        for (int f = 0; f < PSS10Scorer.FEATURE_COUNT; f++) {
+            if (features[f] < 0 || features[f] > MAX_FEATURE_VALUE) {
+                throw new IllegalArgumentException("Feature " + f + " out of range: " + features[f]);
+            }
+        }
+        for (int c = 0; c < classes.length; c++) {
+            probabilities[c] = 0;
+        }
+
+        for (int root : roots) {
+            int node = root;
+            while (feature[node] >= 0) {
+                int f = feature[node];
+                node = scaledFeatures[f * (MAX_FEATURE_VALUE + 1) + features[f]] <= threshold[node] ? left[node] : right[node];
+            }
+
+            int offset = left[node];
+            for (int c = 0; c < classes.length; c++) {
+                probabilities[c] += leafProbabilities[offset + c];
+            }
+        }
+
+        int predicted = 0;
+        for (int c = 0; c < classes.length; c++) {
+            probabilities[c] /= roots.length;
+            if (probabilities[c] > probabilities[predicted]) {
+                predicted = c;
+            }
+        }
+        return predicted;
+    }
+
+    public StressLevel[] getClasses() {
+        return classes.clone();
+    }
+
+    public StressLevel classAt(int index) {
+        return classes[index];
+    }
+
+    public int getClassCount() {
+        return classes.length;
+    }
+
+    /**
+     * CRC32 of the exported model, used as its version.
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    private static int[] readInts(DataInputStream in, int count) throws IOException {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(DataInputStream in, int count) throws IOException {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readDouble();
+        }
+        return values;
+    }
+}
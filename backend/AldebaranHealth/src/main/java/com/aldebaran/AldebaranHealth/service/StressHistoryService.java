@@ -0,0 +1,158 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.dto.response.StressTrendResponse;
+import com.aldebaran.AldebaranHealth.enums.RollupPeriod;
+import com.aldebaran.AldebaranHealth.model.StressAssessment;
+import com.aldebaran.AldebaranHealth.model.StressRollup;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.repository.StressAssessmentRepo;
+import com.aldebaran.AldebaranHealth.repository.StressRollupRepo;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a user's own assessments together with daily, weekly (ISO, Monday based) and monthly
+ * rollups of them. Rollups are folded in as each assessment is saved, at the cost of one read
+ * and up to three writes, so a trend chart is one range read on the rollup table's unique
+ * index however long the history is. Batch uploads
+ * are research data about other people and are not rolled up.
+ */
+@Service
+public class StressHistoryService {
+    private final Logger logger = LoggerFactory.getLogger(StressHistoryService.class);
+    private final StressAssessmentRepo stressAssessmentRepo;
+    private final StressRollupRepo stressRollupRepo;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zone;
+
+    @Autowired
+    public StressHistoryService(StressAssessmentRepo stressAssessmentRepo, StressRollupRepo stressRollupRepo, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager, @Value("${stress.history.zone:UTC}") ZoneId zone) {
+        this.stressAssessmentRepo = stressAssessmentRepo;
+        this.stressRollupRepo = stressRollupRepo;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zone = zone;
+    }
+
+    /**
+     * Saves the assessment for the user and adds it to the rollups of its day, week and month.
+     * Only the user's existing rollup rows for those periods are locked. When a concurrent
+     * check-in creates one of the missing rollups first, the unique key rejects the second insert
+     * and the whole transaction is run once more, this time finding and locking that row.
+     */
+    public StressAssessment recordAssessment(Long userId, StressAssessment assessment) {
+        try {
+            return transactionTemplate.execute(status -> saveAndRollUp(userId, assessment));
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Rollup for user {} was created concurrently, retrying", userId);
+            assessment.setAssessmentId(null);
+            return transactionTemplate.execute(status -> saveAndRollUp(userId, assessment));
+        }
+    }
+
+    private StressAssessment saveAndRollUp(Long userId, StressAssessment assessment) {
+        User user = entityManager.find(User.class, userId);
+        if (user == null) {
+            throw new RuntimeException("User not found");
+        }
+
+        assessment.setUser(user);
+        StressAssessment savedAssessment = stressAssessmentRepo.save(assessment);
+
+        LocalDate day = savedAssessment.getCreatedAt().toInstant().atZone(zone).toLocalDate();
+        Map<RollupPeriod, LocalDate> periodStarts = new EnumMap<>(RollupPeriod.class);
+        for (RollupPeriod period : RollupPeriod.values()) {
+            periodStarts.put(period, periodStart(period, day));
+        }
+
+        Map<RollupPeriod, StressRollup> rollups = new EnumMap<>(RollupPeriod.class);
+        for (StressRollup rollup : stressRollupRepo.findByUser_UserIdAndPeriodStartInOrderByPeriodAsc(userId, Set.copyOf(periodStarts.values()))) {
+            if (rollup.getPeriodStart().equals(periodStarts.get(rollup.getPeriod()))) {
+                rollups.put(rollup.getPeriod(), rollup);
+            }
+        }
+
+        for (Map.Entry<RollupPeriod, LocalDate> periodStart : periodStarts.entrySet()) {
+            StressRollup rollup = rollups.computeIfAbsent(periodStart.getKey(), period -> newRollup(user, period, periodStart.getValue()));
+            accumulate(rollup, savedAssessment);
+        }
+        stressRollupRepo.saveAllAndFlush(rollups.values());
+
+        logger.info("Recorded stress assessment {} for user {}", savedAssessment.getAssessmentId(), userId);
+        return savedAssessment;
+    }
+
+    /**
+     * Rollups of {@code period} whose period starts within {@code [from, to]}, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<StressTrendResponse> getTrend(Long userId, RollupPeriod period, LocalDate from, LocalDate to) {
+        if (period == null) {
+            throw new IllegalArgumentException("Rollup period is required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Trend start must not be after its end");
+        }
+
+        return stressRollupRepo.findByUser_UserIdAndPeriodAndPeriodStartBetweenOrderByPeriodStartAsc(userId, period,
+                        periodStart(period, from), to)
+                .stream()
+                .map(StressTrendResponse::new)
+                .toList();
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    static LocalDate periodStart(RollupPeriod period, LocalDate day) {
+        return switch (period) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static StressRollup newRollup(User user, RollupPeriod period, LocalDate periodStart) {
+        StressRollup rollup = new StressRollup();
+        rollup.setUser(user);
+        rollup.setPeriod(period);
+        rollup.setPeriodStart(periodStart);
+        return rollup;
+    }
+
+    private static void accumulate(StressRollup rollup, StressAssessment assessment) {
+        rollup.setAssessmentCount(rollup.getAssessmentCount() + 1);
+        rollup.setScoreSum(rollup.getScoreSum() + assessment.getPss10Score());
+        switch (assessment.getStressLevel()) {
+            case LOW -> rollup.setLowCount(rollup.getLowCount() + 1);
+            case MODERATE -> rollup.setModerateCount(rollup.getModerateCount() + 1);
+            case HIGH -> rollup.setHighCount(rollup.getHighCount() + 1);
+        }
+
+        if (rollup.getLastAssessedAt() == null || !assessment.getCreatedAt().before(rollup.getLastAssessedAt())) {
+            rollup.setLastScore(assessment.getPss10Score());
+            rollup.setLastLevel(assessment.getStressLevel());
+            rollup.setLastAssessedAt(assessment.getCreatedAt());
+        }
+    }
+}
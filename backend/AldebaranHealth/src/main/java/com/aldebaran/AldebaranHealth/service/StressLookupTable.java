@@ -0,0 +1,187 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.util.PSS10Scorer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Classifier output for every one of the 5^10 PSS-10 answer vectors, memory-mapped from a
+ * file written once by {@code StressLookupTableGenerator} ({@code mvn -Pstress-table package}). A lookup is one absolute read from the mapping, so
+ * classification costs no tree walks and no allocation, and the pages are shared by the OS
+ * across processes. The header carries the checksum of the model it was generated from; a
+ * table built from a different model is rejected at startup.
+ * <p>
+ * Each record is four bytes: the predicted class index, then the probability of each class
+ * quantized to 1/255. Disabled unless {@code stress.lookup-table.path} is set, in which case
+ * {@link StressScoringService} falls back to {@link StressClassifier}.
+ */
+@Component
+public class StressLookupTable {
+    private static final Logger logger = LoggerFactory.getLogger(StressLookupTable.class);
+
+    private static final int MAGIC = 0x5053534C;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 48;
+    private static final int RECORD_SIZE = 4;
+    private static final int QUANTIZATION_SCALE = 255;
+    private static final int MAX_CLASSES = RECORD_SIZE - 1;
+    private static final int ANSWER_VALUES = PSS10Scorer.MAX_RESPONSE + 1;
+    static final int VECTOR_COUNT = (int) Math.pow(ANSWER_VALUES, PSS10Scorer.QUESTION_COUNT);
+
+    private final MappedByteBuffer table;
+    private final int classCount;
+
+    @Autowired
+    public StressLookupTable(@Value("${stress.lookup-table.path:}") String path, StressClassifier stressClassifier) {
+        if (path == null || path.isBlank()) {
+            this.table = null;
+            this.classCount = 0;
+            logger.info("Stress lookup table disabled, classifying with the model");
+            return;
+        }
+
+        Path tablePath = Path.of(path);
+        try (FileChannel channel = FileChannel.open(tablePath, StandardOpenOption.READ)) {
+            this.table = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to map stress lookup table " + tablePath, e);
+        }
+
+        if (table.capacity() < HEADER_SIZE || table.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a stress lookup table: " + tablePath);
+        }
+        if (table.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported stress lookup table format version " + table.getInt(4));
+        }
+        if (table.getLong(8) != stressClassifier.getChecksum()) {
+            throw new IllegalStateException("Stress lookup table " + tablePath + " was generated from model "
+                    + Long.toHexString(table.getLong(8)) + ", loaded model is " + Long.toHexString(stressClassifier.getChecksum()));
+        }
+        if (table.getInt(16) != VECTOR_COUNT || table.getInt(20) != RECORD_SIZE || table.getInt(24) != QUANTIZATION_SCALE
+                || table.capacity() != HEADER_SIZE + (long) VECTOR_COUNT * RECORD_SIZE) {
+            throw new IllegalStateException("Stress lookup table " + tablePath + " has an unexpected layout");
+        }
+
+        this.classCount = table.getInt(28);
+        if (classCount != stressClassifier.getClassCount()) {
+            throw new IllegalStateException("Stress lookup table has " + classCount + " classes, model has " + stressClassifier.getClassCount());
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(table.slice(HEADER_SIZE, VECTOR_COUNT * RECORD_SIZE));
+        if (crc.getValue() != table.getLong(32)) {
+            throw new IllegalStateException("Stress lookup table checksum mismatch in " + tablePath);
+        }
+
+        logger.info("Mapped stress lookup table {} ({} MB) for model {}", tablePath, table.capacity() >> 20,
+                Long.toHexString(stressClassifier.getChecksum()));
+    }
+
+    public boolean isAvailable() {
+        return table != null;
+    }
+
+    /**
+     * Same contract as {@link StressClassifier#predict}, with probabilities quantized to 1/255.
+     */
+    public int lookup(int[] responses, double[] probabilities) {
+        int record = table.getInt(HEADER_SIZE + index(responses) * RECORD_SIZE);
+        for (int c = 0; c < classCount; c++) {
+            probabilities[c] = ((record >>> (16 - 8 * c)) & 0xFF) / (double) QUANTIZATION_SCALE;
+        }
+        return record >>> 24;
+    }
+
+    static int index(int[] responses) {
+        PSS10Scorer.validate(responses);
+
+        int index = 0;
+        for (int i = 0; i < PSS10Scorer.QUESTION_COUNT; i++) {
+            index = index * ANSWER_VALUES + responses[i];
+        }
+        return index;
+    }
+
+    static void responses(int index, int[] responses) {
+        for (int i = PSS10Scorer.QUESTION_COUNT - 1; i >= 0; i--) {
+            responses[i] = index % ANSWER_VALUES;
+            index /= ANSWER_VALUES;
+        }
+    }
+
+    /**
+     * Evaluates the model on every answer vector and writes the table to {@code output}.
+     */
+    public static void generate(StressClassifier stressClassifier, Path output) throws IOException {
+        generate(stressClassifier, output, 0, VECTOR_COUNT);
+    }
+
+    /**
+     * Writes a full-size table with only the vectors in {@code [fromIndex, toIndex)} evaluated;
+     * the other records are left zero. Lets tests build a valid table without the whole sweep.
+     */
+    static void generate(StressClassifier stressClassifier, Path output, int fromIndex, int toIndex) throws IOException {
+        int classCount = stressClassifier.getClassCount();
+        if (classCount > MAX_CLASSES) {
+            throw new IllegalArgumentException("Lookup records hold at most " + MAX_CLASSES + " classes, model has " + classCount);
+        }
+
+        byte[] records = new byte[VECTOR_COUNT * RECORD_SIZE];
+        int blockSize = ANSWER_VALUES * ANSWER_VALUES * ANSWER_VALUES * ANSWER_VALUES * ANSWER_VALUES;
+        IntStream.range(fromIndex / blockSize, (toIndex + blockSize - 1) / blockSize).parallel().forEach(block -> {
+            int[] responses = new int[PSS10Scorer.QUESTION_COUNT];
+            int[] features = new int[PSS10Scorer.FEATURE_COUNT];
+            double[] probabilities = new double[classCount];
+
+            for (int index = Math.max(fromIndex, block * blockSize); index < Math.min(toIndex, (block + 1) * blockSize); index++) {
+                responses(index, responses);
+
+                PSS10Scorer.features(responses, PSS10Scorer.score(responses), features);
+                int offset = index * RECORD_SIZE;
+                records[offset] = (byte) stressClassifier.predict(features, probabilities);
+                for (int c = 0; c < classCount; c++) {
+                    records[offset + 1 + c] = (byte) Math.round(probabilities[c] * QUANTIZATION_SCALE);
+                }
+            }
+        });
+
+        CRC32 crc = new CRC32();
+        crc.update(records);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(stressClassifier.getChecksum())
+                .putInt(VECTOR_COUNT)
+                .putInt(RECORD_SIZE)
+                .putInt(QUANTIZATION_SCALE)
+                .putInt(classCount)
+                .putLong(crc.getValue());
+        header.clear();
+
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, output.getFileName().toString(), ".tmp");
+        ByteBuffer[] contents = {header, ByteBuffer.wrap(records)};
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (contents[1].hasRemaining()) {
+                channel.write(contents);
+            }
+        }
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
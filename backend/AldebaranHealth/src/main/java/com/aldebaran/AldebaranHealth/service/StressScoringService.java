@@ -0,0 +1,64 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.model.StressAssessment;
+import com.aldebaran.AldebaranHealth.util.PSS10Scorer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+
+@Service
+public class StressScoringService {
+    private final StressClassifier stressClassifier;
+    private final StressLookupTable stressLookupTable;
+
+    @Autowired
+    public StressScoringService(StressClassifier stressClassifier, StressLookupTable stressLookupTable) {
+        this.stressClassifier = stressClassifier;
+        this.stressLookupTable = stressLookupTable;
+    }
+
+    public StressAssessment assess(List<Integer> responses) {
+        if (responses == null || responses.size() != PSS10Scorer.QUESTION_COUNT || responses.contains(null)) {
+            throw new IllegalArgumentException("PSS-10 requires exactly " + PSS10Scorer.QUESTION_COUNT + " responses");
+        }
+
+        return assess(responses.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Scores and classifies one questionnaire into an unsaved {@link StressAssessment}; the
+     * caller sets the owner. Safe to call concurrently.
+     */
+    public StressAssessment assess(int[] answers) {
+        int score = PSS10Scorer.score(answers);
+
+        double[] probabilities = new double[stressClassifier.getClassCount()];
+        int predicted;
+        if (stressLookupTable.isAvailable()) {
+            predicted = stressLookupTable.lookup(answers, probabilities);
+        } else {
+            int[] features = new int[PSS10Scorer.FEATURE_COUNT];
+            PSS10Scorer.features(answers, score, features);
+            predicted = stressClassifier.predict(features, probabilities);
+        }
+
+        StressAssessment assessment = new StressAssessment();
+        assessment.setResponses(PSS10Scorer.encode(answers));
+        assessment.setPss10Score(score);
+        assessment.setStressLevel(PSS10Scorer.level(score));
+        assessment.setPredictedLevel(stressClassifier.classAt(predicted));
+        assessment.setConfidence(probabilities[predicted]);
+        for (int c = 0; c < probabilities.length; c++) {
+            switch (stressClassifier.classAt(c)) {
+                case LOW -> assessment.setProbabilityLow(probabilities[c]);
+                case MODERATE -> assessment.setProbabilityModerate(probabilities[c]);
+                case HIGH -> assessment.setProbabilityHigh(probabilities[c]);
+            }
+        }
+        assessment.setCreatedAt(new Date());
+
+        return assessment;
+    }
+}
@@ -0,0 +1,144 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Offline stand-in for the Gemini provider, active under the "ai-stub" profile.
+ * Latency is log-normal around a median with an optional slow tail, so load tests
+ * see a realistic distribution without spending quota or touching the network.
+ */
+@Component
+@Profile("ai-stub")
+public class StubAIProvider implements AIProvider {
+    private final Logger logger = LoggerFactory.getLogger(StubAIProvider.class);
+
+    private final boolean echo;
+    private final String cannedResponse;
+    private final long latencyMedianNanos;
+    private final double latencySigma;
+    private final double tailRate;
+    private final long tailLatencyNanos;
+    private final long maxLatencyNanos;
+    private final double errorRate;
+    private final int chunkWords;
+    private final long chunkDelayNanos;
+
+    @Autowired
+    public StubAIProvider(@Value("${ai.stub.mode:canned}") String mode,
+                          @Value("${ai.stub.canned-response:Thanks for sharing. Try a few slow breaths and tell me more about how you are feeling.}") String cannedResponse,
+                          @Value("${ai.stub.latency.median:800ms}") Duration latencyMedian,
+                          @Value("${ai.stub.latency.sigma:0.5}") double latencySigma,
+                          @Value("${ai.stub.latency.tail-rate:0}") double tailRate,
+                          @Value("${ai.stub.latency.tail:5s}") Duration tailLatency,
+                          @Value("${ai.stub.latency.max:30s}") Duration maxLatency,
+                          @Value("${ai.stub.error-rate:0}") double errorRate,
+                          @Value("${ai.stub.stream.chunk-words:3}") int chunkWords,
+                          @Value("${ai.stub.stream.chunk-delay:40ms}") Duration chunkDelay) {
+        if (!"echo".equals(mode) && !"canned".equals(mode)) {
+            throw new IllegalArgumentException("Stub AI mode must be echo or canned, got: " + mode);
+        }
+
+        this.echo = "echo".equals(mode);
+        this.cannedResponse = cannedResponse;
+        this.latencyMedianNanos = latencyMedian.toNanos();
+        this.latencySigma = latencySigma;
+        this.tailRate = tailRate;
+        this.tailLatencyNanos = tailLatency.toNanos();
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.errorRate = errorRate;
+        this.chunkWords = Math.max(1, chunkWords);
+        this.chunkDelayNanos = chunkDelay.toNanos();
+
+        logger.warn("Stub AI provider active ({} mode, median latency {}, error rate {})", mode, latencyMedian, errorRate);
+    }
+
+    @Override
+    public String generateContent(String model, String prompt) {
+        simulateCall();
+        return reply(prompt);
+    }
+
+    @Override
+    public String generateContent(String model, PromptContext promptContext) {
+        simulateCall();
+        return reply(promptContext.getLatestUserContent());
+    }
+
+    @Override
+    public AIResponseStream generateContentStream(String model, PromptContext promptContext) {
+        simulateCall();
+        String[] words = reply(promptContext.getLatestUserContent()).split(" ");
+
+        return new AIResponseStream() {
+            @Override
+            public Iterator<String> iterator() {
+                return new Iterator<>() {
+                    private int position;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < words.length;
+                    }
+
+                    @Override
+                    public String next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        if (position > 0) {
+                            sleep(chunkDelayNanos);
+                        }
+
+                        int end = Math.min(words.length, position + chunkWords);
+                        String chunk = String.join(" ", Arrays.copyOfRange(words, position, end));
+                        position = end;
+                        return end < words.length ? chunk + " " : chunk;
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private void simulateCall() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latencyNanos = random.nextDouble() < tailRate
+                ? tailLatencyNanos
+                : (long) (latencyMedianNanos * Math.exp(latencySigma * random.nextGaussian()));
+        sleep(Math.min(latencyNanos, maxLatencyNanos));
+
+        if (random.nextDouble() < errorRate) {
+            throw new RuntimeException("Stub AI provider failure");
+        }
+    }
+
+    private String reply(String prompt) {
+        if (echo) {
+            return "Echo: " + (prompt == null ? "" : prompt.trim());
+        }
+        return cannedResponse;
+    }
+
+    private void sleep(long nanos) {
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Stub AI call interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports how a stream ended once it is closed: read to the end, failed while reading, or
+ * abandoned by the caller. The time of the first chunk is passed along so owners can judge
+ * upstream latency without counting how long the reply takes to generate.
+ */
+class TrackedResponseStream implements AIResponseStream {
+
+    enum Outcome { COMPLETED, FAILED, ABANDONED }
+
+    @FunctionalInterface
+    interface CloseListener {
+        void onClose(Outcome outcome, long firstChunkAt);
+    }
+
+    private final AIResponseStream delegate;
+    private final CloseListener closeListener;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private volatile Outcome outcome = Outcome.ABANDONED;
+    private volatile long firstChunkAt;
+
+    TrackedResponseStream(AIResponseStream delegate, CloseListener closeListener) {
+        this.delegate = delegate;
+        this.closeListener = closeListener;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        Iterator<String> chunks = delegate.iterator();
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    boolean hasNext = chunks.hasNext();
+                    if (!hasNext && outcome != Outcome.FAILED) {
+                        outcome = Outcome.COMPLETED;
+                    }
+                    return hasNext;
+                } catch (RuntimeException e) {
+                    outcome = Outcome.FAILED;
+                    throw e;
+                }
+            }
+
+            @Override
+            public String next() {
+                try {
+                    String chunk = chunks.next();
+                    if (firstChunkAt == 0) {
+                        firstChunkAt = System.nanoTime();
+                    }
+                    return chunk;
+                } catch (RuntimeException e) {
+                    outcome = Outcome.FAILED;
+                    throw e;
+                }
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            delegate.close();
+        } finally {
+            closeListener.onClose(outcome, firstChunkAt == 0 ? System.nanoTime() : firstChunkAt);
+        }
+    }
+}
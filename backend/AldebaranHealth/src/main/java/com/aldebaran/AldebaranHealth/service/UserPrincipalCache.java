@@ -0,0 +1,98 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.model.UserPrincipal;
+import com.aldebaran.AldebaranHealth.repository.UserRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches an immutable {@link UserPrincipal} per email, with an id to email index so a user can
+ * be evicted by id without scanning the cache.
+ */
+@Service
+public class UserPrincipalCache {
+    private final Logger logger = LoggerFactory.getLogger(UserPrincipalCache.class);
+    private final Function<String, Optional<User>> userLoader;
+    private final Cache<String, UserPrincipal> principalCache;
+    private final Map<Long, String> emailByUserId = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UserPrincipalCache(UserRepo userRepo, MeterRegistry meterRegistry,
+                              @Value("${spring.security.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${spring.security.principal-cache.ttl:5m}") Duration ttl) {
+        this(userRepo::findByEmail, meterRegistry, maxSize, ttl);
+    }
+
+    public UserPrincipalCache(Function<String, Optional<User>> userLoader, MeterRegistry meterRegistry, long maxSize, Duration ttl) {
+        this.userLoader = userLoader;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((String email, UserPrincipal principal, RemovalCause cause) -> {
+                    if (principal != null) {
+                        emailByUserId.remove(principal.getUserId(), email);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "principal");
+    }
+
+    public Optional<UserPrincipal> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(principalCache.get(email, key -> userLoader.apply(key)
+                .map(user -> {
+                    UserPrincipal principal = UserPrincipal.of(user);
+                    emailByUserId.put(principal.getUserId(), key);
+                    return principal;
+                })
+                .orElse(null)));
+    }
+
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+
+        UserPrincipal removed = principalCache.asMap().remove(email);
+        if (removed != null) {
+            emailByUserId.remove(removed.getUserId(), email);
+            logger.info("Evicted cached principal");
+        }
+    }
+
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        String email = emailByUserId.remove(userId);
+        if (email != null) {
+            principalCache.invalidate(email);
+        }
+    }
+
+    public void evictAll() {
+        principalCache.invalidateAll();
+        emailByUserId.clear();
+    }
+}
@@ -2,6 +2,7 @@ package com.aldebaran.AldebaranHealth.service;
 
 import com.aldebaran.AldebaranHealth.dto.request.CreateUserRequest;
 import com.aldebaran.AldebaranHealth.dto.request.LoginUserRequest;
+import com.aldebaran.AldebaranHealth.enums.UserRole;
 import com.aldebaran.AldebaranHealth.model.User;
 import com.aldebaran.AldebaranHealth.repository.UserRepo;
 import org.slf4j.Logger;
@@ -9,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -41,6 +43,7 @@ public class UserService {
             newUser.setUserName(createUserRequest.getUserName());
             newUser.setEmail(createUserRequest.getEmail().toLowerCase().trim());
             newUser.setPassword(passwordEncoder.encode(createUserRequest.getPassword()));
+            newUser.setRole(UserRole.USER);
 
             logger.info("Successfully create new user");
             return userRepo.save(newUser);
@@ -52,7 +55,7 @@ public class UserService {
 
     public User loginUser(LoginUserRequest loginUserRequest) {
         try {
-            authenticationManager.authenticate(
+            Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             loginUserRequest.getEmail(),
                             loginUserRequest.getPassword()
@@ -61,7 +64,7 @@ public class UserService {
 
             logger.info("Login successfully for user");
 
-            return userRepo.findByEmail(loginUserRequest.getEmail()).orElseThrow(() -> new RuntimeException("No user found by email" + loginUserRequest.getEmail()));
+            return (User) authentication.getPrincipal();
         } catch (Exception e) {
             logger.error("Failed to login user" + e.getMessage());
             throw new Error("Failed to login user", e);
@@ -0,0 +1,118 @@
+package com.aldebaran.AldebaranHealth.util;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD concurrency limit: grows by roughly one slot per window of fast successes and
+ * shrinks multiplicatively when a call fails or exceeds the latency threshold. Callers may
+ * wait a bounded time for a slot; a lock rather than a monitor keeps waiting virtual threads
+ * off their carriers.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.75;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(0);
+    }
+
+    public boolean tryAcquire(long timeoutNanos) {
+        lock.lock();
+        try {
+            long remainingNanos = timeoutNanos;
+            while (inFlight >= (int) limit) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = slotFreed.awaitNanos(remainingNanos);
+            }
+
+            inFlight++;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess(long latencyNanos) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight * 2 >= limit;
+            release();
+
+            if (latencyNanos > latencyThresholdNanos) {
+                decrease();
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            release();
+            decrease();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onIgnore() {
+        lock.lock();
+        try {
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        inFlight--;
+        slotFreed.signal();
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+}
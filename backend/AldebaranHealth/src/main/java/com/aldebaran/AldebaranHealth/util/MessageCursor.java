@@ -0,0 +1,42 @@
+package com.aldebaran.AldebaranHealth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+public class MessageCursor {
+    private final Date createdAt;
+    private final Long messageId;
+
+    public MessageCursor(Date createdAt, Long messageId) {
+        this.createdAt = createdAt;
+        this.messageId = messageId;
+    }
+
+    public static String encode(Date createdAt, Long messageId) {
+        String rawCursor = createdAt.getTime() + ":" + messageId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MessageCursor decode(String cursor) {
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = rawCursor.indexOf(':');
+
+            long createdAtMillis = Long.parseLong(rawCursor.substring(0, separator));
+            long messageId = Long.parseLong(rawCursor.substring(separator + 1));
+
+            return new MessageCursor(new Date(createdAtMillis), messageId);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid message cursor: " + cursor, e);
+        }
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+}
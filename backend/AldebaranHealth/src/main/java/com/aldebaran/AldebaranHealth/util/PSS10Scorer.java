@@ -0,0 +1,94 @@
+package com.aldebaran.AldebaranHealth.util;
+
+import com.aldebaran.AldebaranHealth.enums.StressLevel;
+
+/**
+ * Perceived Stress Scale (PSS-10) scoring, matching calculate_pss10_score in the stress
+ * predictor: items 4, 5, 7 and 8 are reverse scored, totals 0-13 are low, 14-26 moderate
+ * and 27-40 high. Apart from {@link #encode}, nothing here allocates, so it is safe on batch
+ * hot paths.
+ */
+public final class PSS10Scorer {
+    public static final int QUESTION_COUNT = 10;
+    public static final int MAX_RESPONSE = 4;
+    public static final int MAX_SCORE = QUESTION_COUNT * MAX_RESPONSE;
+    public static final int FEATURE_COUNT = QUESTION_COUNT + 4;
+
+    private static final boolean[] REVERSE_SCORED = {false, false, false, true, true, false, true, true, false, false};
+    private static final int LOW_MAX_SCORE = 13;
+    private static final int MODERATE_MAX_SCORE = 26;
+
+    private PSS10Scorer() {
+    }
+
+    public static int score(int[] responses) {
+        validate(responses);
+
+        int score = 0;
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            score += REVERSE_SCORED[i] ? MAX_RESPONSE - responses[i] : responses[i];
+        }
+        return score;
+    }
+
+    public static StressLevel level(int score) {
+        if (score < 0 || score > MAX_SCORE) {
+            throw new IllegalArgumentException("PSS-10 score must be between 0 and " + MAX_SCORE);
+        }
+        if (score <= LOW_MAX_SCORE) {
+            return StressLevel.LOW;
+        }
+        return score <= MODERATE_MAX_SCORE ? StressLevel.MODERATE : StressLevel.HIGH;
+    }
+
+    /**
+     * Fills {@code features} with the classifier input used by StressAnalyzer.predict_stress:
+     * the ten raw answers, their raw sum, the PSS-10 score, and the counts of answers
+     * {@code >= 3} and {@code <= 1}.
+     */
+    public static void features(int[] responses, int score, int[] features) {
+        int rawTotal = 0;
+        int highResponses = 0;
+        int lowResponses = 0;
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            int response = responses[i];
+            features[i] = response;
+            rawTotal += response;
+            if (response >= 3) {
+                highResponses++;
+            }
+            if (response <= 1) {
+                lowResponses++;
+            }
+        }
+
+        features[QUESTION_COUNT] = rawTotal;
+        features[QUESTION_COUNT + 1] = score;
+        features[QUESTION_COUNT + 2] = highResponses;
+        features[QUESTION_COUNT + 3] = lowResponses;
+    }
+
+    /**
+     * The answers as ten digits, e.g. {@code "0123401234"}, the form stored with an assessment.
+     */
+    public static String encode(int[] responses) {
+        validate(responses);
+
+        char[] digits = new char[QUESTION_COUNT];
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            digits[i] = (char) ('0' + responses[i]);
+        }
+        return new String(digits);
+    }
+
+    public static void validate(int[] responses) {
+        if (responses == null || responses.length != QUESTION_COUNT) {
+            throw new IllegalArgumentException("PSS-10 requires exactly " + QUESTION_COUNT + " responses");
+        }
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            if (responses[i] < 0 || responses[i] > MAX_RESPONSE) {
+                throw new IllegalArgumentException("Response " + (i + 1) + " must be between 0 and " + MAX_RESPONSE);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.aldebaran.AldebaranHealth.util;
+
+/**
+ * Time spent in each phase of the current request. {@code ServerTimingFilter} binds one to the
+ * request thread; recording outside a request (background jobs, executor threads) is a no-op.
+ */
+public class RequestTiming {
+    public enum Phase {
+        AUTH("auth", "Token verification"),
+        USER("user", "User lookup"),
+        DB("db", "Repository calls"),
+        AI("ai", "AI provider calls");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startedAt = System.nanoTime();
+    private final long[] durations = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private boolean authenticated;
+
+    public static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void record(Phase phase, long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.durations[phase.ordinal()] += nanos;
+            timing.counts[phase.ordinal()]++;
+        }
+    }
+
+    public static void markAuthenticated() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.authenticated = true;
+        }
+    }
+
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    public long getDuration(Phase phase) {
+        return durations[phase.ordinal()];
+    }
+
+    public int getCount(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * Value for the {@code Server-Timing} response header, e.g.
+     * {@code auth;dur=0.4, db;dur=12.3;desc="Repository calls (5)", total;dur=830.1}.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+
+            header.append(phase.metricName).append(";dur=").append(millis(durations[phase.ordinal()]))
+                    .append(";desc=\"").append(phase.description);
+            if (count > 1) {
+                header.append(" (").append(count).append(')');
+            }
+            header.append("\", ");
+        }
+        return header.append("total;dur=").append(millis(elapsedNanos())).toString();
+    }
+
+    /**
+     * Phase breakdown for logs, e.g. {@code total=830.1ms auth=0.4ms/1 db=12.3ms/5 ai=812.0ms/1}.
+     */
+    public String describe() {
+        StringBuilder breakdown = new StringBuilder("total=").append(millis(elapsedNanos())).append("ms");
+        for (Phase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count > 0) {
+                breakdown.append(' ').append(phase.metricName).append('=').append(millis(durations[phase.ordinal()]))
+                        .append("ms/").append(count);
+            }
+        }
+        return breakdown.toString();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+}
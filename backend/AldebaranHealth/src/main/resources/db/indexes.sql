@@ -0,0 +1,10 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX IF NOT EXISTS idx_conversation_user_name_trgm ON conversation USING gin (user_id, lower(name) gin_trgm_ops);
+DROP INDEX IF EXISTS idx_conversation_user_name_prefix;
+CREATE INDEX IF NOT EXISTS idx_conversation_user_name_prefix_c ON conversation (user_id, (lower(name)) COLLATE "C", conversation_id);
+
+ALTER TABLE message ADD COLUMN IF NOT EXISTS content_tsv tsvector GENERATED ALWAYS AS (to_tsvector('english', content)) STORED;
+CREATE INDEX IF NOT EXISTS idx_message_content_tsv ON message USING gin (content_tsv);
+CREATE INDEX IF NOT EXISTS idx_conversation_user ON conversation (user_id);
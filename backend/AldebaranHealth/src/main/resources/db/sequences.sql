@@ -0,0 +1,5 @@
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(user_id), 0) FROM users) + 50, (SELECT last_value FROM users_seq)));
+SELECT setval('conversation_seq', GREATEST((SELECT COALESCE(MAX(conversation_id), 0) FROM conversation) + 50, (SELECT last_value FROM conversation_seq)));
+SELECT setval('message_seq', GREATEST((SELECT COALESCE(MAX(message_id), 0) FROM message) + 50, (SELECT last_value FROM message_seq)));
+SELECT setval('stress_assessment_seq', GREATEST((SELECT COALESCE(MAX(assessment_id), 0) FROM stress_assessment) + 50, (SELECT last_value FROM stress_assessment_seq)));
+SELECT setval('stress_rollup_seq', GREATEST((SELECT COALESCE(MAX(rollup_id), 0) FROM stress_rollup) + 50, (SELECT last_value FROM stress_rollup_seq)));
@@ -0,0 +1,31 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes the {@link StressLookupTable} file. Compiled and run only by the {@code stress-table}
+ * profile: {@code mvn -Pstress-table package [-Dstress.table.output=...]}.
+ */
+public class StressLookupTableGenerator {
+
+    /**
+     * <pre>java StressLookupTableGenerator output.bin [model.bin]</pre>
+     * Without a model path the classifier bundled on the classpath is used.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: StressLookupTableGenerator <output.bin> [model.bin]");
+            System.exit(2);
+        }
+
+        Resource model = args.length > 1 ? new FileSystemResource(args[1]) : new ClassPathResource("models/stress-classifier.bin");
+        long startTime = System.nanoTime();
+        StressLookupTable.generate(new StressClassifier(model), Path.of(args[0]));
+        System.out.printf("Wrote %d stress assessments to %s in %.1fs%n", StressLookupTable.VECTOR_COUNT, args[0], (System.nanoTime() - startTime) / 1e9);
+    }
+}
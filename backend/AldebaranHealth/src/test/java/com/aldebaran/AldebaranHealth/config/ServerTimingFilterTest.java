@@ -0,0 +1,60 @@
+package com.aldebaran.AldebaranHealth.config;
+
+import com.aldebaran.AldebaranHealth.util.RequestTiming;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerTimingFilterTest {
+
+    @Test
+    void headerCarriesPhasesRecordedBeforeTheResponseCommits() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(true, Duration.ofSeconds(2), 0.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/conversation/1/messages"), response, (request, timedResponse) -> {
+            RequestTiming.markAuthenticated();
+            RequestTiming.record(RequestTiming.Phase.DB, TimeUnit.MILLISECONDS.toNanos(2));
+            RequestTiming.record(RequestTiming.Phase.DB, TimeUnit.MILLISECONDS.toNanos(3));
+            RequestTiming.record(RequestTiming.Phase.AI, TimeUnit.MILLISECONDS.toNanos(800));
+            timedResponse.getWriter().write("{}");
+            timedResponse.flushBuffer();
+            RequestTiming.record(RequestTiming.Phase.USER, TimeUnit.MILLISECONDS.toNanos(1));
+        });
+
+        String serverTiming = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        assertTrue(serverTiming.startsWith("db;dur=5.0;desc=\"Repository calls (2)\", ai;dur=800.0;desc=\"AI provider calls\", total;dur="), serverTiming);
+        assertFalse(serverTiming.contains("user;"), serverTiming);
+    }
+
+    @Test
+    void anonymousRequestsGetNoHeader() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(true, Duration.ofSeconds(2), 0.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/login"), response, (request, timedResponse) -> {
+            RequestTiming.record(RequestTiming.Phase.DB, TimeUnit.MILLISECONDS.toNanos(2));
+            timedResponse.getWriter().write("{}");
+        });
+
+        assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+    }
+
+    @Test
+    void disabledFilterLeavesResponseUntouched() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(false, Duration.ofSeconds(2), 0.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/conversation"), response,
+                (request, timedResponse) -> RequestTiming.record(RequestTiming.Phase.DB, 1));
+
+        assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+    }
+}
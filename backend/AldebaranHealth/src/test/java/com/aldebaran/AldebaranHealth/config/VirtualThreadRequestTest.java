@@ -0,0 +1,63 @@
+package com.aldebaran.AldebaranHealth.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots embedded Tomcat with only the web auto-configuration and checks that
+ * {@code spring.threads.virtual.enabled} moves request handling and the AI executor onto
+ * virtual threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadRequestTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ExecutorService aiExecutor;
+
+    @Test
+    void requestsAreServedOnVirtualThreads() {
+        assertEquals("true", restTemplate.getForObject("/thread/virtual", String.class));
+    }
+
+    @Test
+    void aiCallsRunOnVirtualThreads() throws Exception {
+        assertTrue(aiExecutor.submit(() -> Thread.currentThread().isVirtual()).get());
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class, WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class})
+    @Import({GeminiAIConfig.class, ThreadController.class})
+    static class WebOnlyConfig {
+    }
+
+    @RestController
+    static class ThreadController {
+        @GetMapping("/thread/virtual")
+        String isVirtual() {
+            return String.valueOf(Thread.currentThread().isVirtual());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.aldebaran.AldebaranHealth.controller;
+
+import com.aldebaran.AldebaranHealth.config.SecurityConfig;
+import com.aldebaran.AldebaranHealth.config.WebConfig;
+import com.aldebaran.AldebaranHealth.repository.UserRepo;
+import com.aldebaran.AldebaranHealth.service.BulkImportService;
+import com.aldebaran.AldebaranHealth.service.ConversationService;
+import com.aldebaran.AldebaranHealth.service.ExportService;
+import com.aldebaran.AldebaranHealth.service.JwtService;
+import com.aldebaran.AldebaranHealth.service.MessageService;
+import com.aldebaran.AldebaranHealth.service.ResourceVersionService;
+import com.aldebaran.AldebaranHealth.service.UserPrincipalCache;
+import com.aldebaran.AldebaranHealth.util.AuthenticationUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = {ConversationController.class, MessageController.class}, properties = {
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test"
+})
+@Import({WebConfig.class, SecurityConfig.class, AdminEndpointSecurityTest.MetricsConfig.class})
+class AdminEndpointSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ConversationService conversationService;
+
+    @MockitoBean
+    private MessageService messageService;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @MockitoBean
+    private BulkImportService bulkImportService;
+
+    @MockitoBean
+    private ResourceVersionService resourceVersionService;
+
+    @MockitoBean
+    private AuthenticationUtil authenticationUtil;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserPrincipalCache userPrincipalCache;
+
+    @MockitoBean
+    private UserRepo userRepo;
+
+    @Test
+    void userTokenCannotExportMessages() throws Exception {
+        mockMvc.perform(get("/conversation/admin/messages/export").with(user("user@aldebaran.health").roles("USER")))
+                .andExpect(status().isForbidden());
+
+        verify(exportService, never()).exportMessages(any(), any(), any(), any());
+    }
+
+    @Test
+    void userTokenCannotExportOrImportConversations() throws Exception {
+        mockMvc.perform(get("/conversation/admin/all").with(user("user@aldebaran.health").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/conversation/admin/import").with(user("user@aldebaran.health").roles("USER"))
+                        .contentType("application/json").content("[]"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminTokenExportsMessages() throws Exception {
+        mockMvc.perform(get("/conversation/admin/messages/export").with(user("admin@aldebaran.health").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void oldMessageExportPathIsGone() throws Exception {
+        mockMvc.perform(get("/conversation/1/messages/all").with(user("user@aldebaran.health").roles("USER")))
+                .andExpect(status().is4xxClientError());
+
+        verify(exportService, never()).exportMessages(any(), any(), any(), any());
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
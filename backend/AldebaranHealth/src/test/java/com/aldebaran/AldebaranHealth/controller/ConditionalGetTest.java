@@ -0,0 +1,184 @@
+package com.aldebaran.AldebaranHealth.controller;
+
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.model.UserPrincipal;
+import com.aldebaran.AldebaranHealth.repository.ConversationRepo;
+import com.aldebaran.AldebaranHealth.repository.MessageRepo;
+import com.aldebaran.AldebaranHealth.repository.UserRepo;
+import com.aldebaran.AldebaranHealth.service.AIService;
+import com.aldebaran.AldebaranHealth.service.BulkImportService;
+import com.aldebaran.AldebaranHealth.service.ConversationContextService;
+import com.aldebaran.AldebaranHealth.service.ConversationService;
+import com.aldebaran.AldebaranHealth.service.ExportService;
+import com.aldebaran.AldebaranHealth.service.MessageService;
+import com.aldebaran.AldebaranHealth.service.PromptContext;
+import com.aldebaran.AldebaranHealth.service.ResourceVersionService;
+import com.aldebaran.AldebaranHealth.service.UserPrincipalCache;
+import com.aldebaran.AldebaranHealth.util.AuthenticationUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The conversation list and message page ETags, with real services over mocked repositories:
+ * a matching If-None-Match answers 304 before any repository is touched, and every write that
+ * changes what those reads return moves the tag.
+ */
+class ConditionalGetTest {
+
+    private static final String EMAIL = "etag@aldebaran.health";
+    private static final String CONVERSATIONS = "/conversation";
+    private static final String MESSAGES = "/conversation/1/messages";
+
+    private final ConversationRepo conversationRepo = mock(ConversationRepo.class);
+    private final MessageRepo messageRepo = mock(MessageRepo.class);
+    private final UserRepo userRepo = mock(UserRepo.class);
+    private final UserPrincipalCache userPrincipalCache = mock(UserPrincipalCache.class);
+    private ConversationService conversationService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUserId(1L);
+        Conversation conversation = new Conversation();
+        conversation.setConversationId(1L);
+        conversation.setUser(user);
+        conversation.setCreatedAt(new Date());
+
+        when(userPrincipalCache.findByEmail(EMAIL)).thenReturn(Optional.of(new UserPrincipal(1L, EMAIL, ModelTier.STANDARD, List.of())));
+        when(userRepo.getReferenceById(1L)).thenReturn(user);
+        when(userRepo.countByUserIdIn(any())).thenReturn(1L);
+        when(conversationRepo.findById(1L)).thenReturn(Optional.of(conversation));
+        when(conversationRepo.existsById(1L)).thenReturn(true);
+        when(conversationRepo.save(any(Conversation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messageRepo.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ConversationContextService conversationContextService = mock(ConversationContextService.class);
+        when(conversationContextService.buildContext(any())).thenReturn(new PromptContext(null, List.of(), 0));
+
+        AuthenticationUtil authenticationUtil = mock(AuthenticationUtil.class);
+        when(authenticationUtil.getCurrentEmail()).thenReturn(EMAIL);
+        when(authenticationUtil.getCurrentUserId()).thenReturn(1L);
+        when(authenticationUtil.getCurrentModelTier()).thenReturn(ModelTier.STANDARD);
+
+        ResourceVersionService resourceVersionService = new ResourceVersionService(new SimpleMeterRegistry(), 1000);
+        conversationService = new ConversationService(conversationRepo, userRepo, userPrincipalCache, resourceVersionService);
+        MessageService messageService = new MessageService(messageRepo, conversationRepo, mock(AIService.class), conversationContextService,
+                mock(ExecutorService.class), resourceVersionService, new SimpleMeterRegistry());
+        BulkImportService bulkImportService = new BulkImportService(userRepo, mock(EntityManager.class), resourceVersionService);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new ConversationController(conversationService, mock(ExportService.class), bulkImportService, resourceVersionService, authenticationUtil),
+                        new MessageController(messageService, resourceVersionService, authenticationUtil))
+                .build();
+    }
+
+    @Test
+    void matchingConversationListTagSkipsTheRepositories() throws Exception {
+        String eTag = currentETag(CONVERSATIONS);
+        clearInvocations(conversationRepo, messageRepo, userRepo, userPrincipalCache);
+
+        mockMvc.perform(get(CONVERSATIONS).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(conversationRepo, messageRepo, userRepo, userPrincipalCache);
+    }
+
+    @Test
+    void matchingMessagePageTagSkipsTheRepositories() throws Exception {
+        String eTag = currentETag(MESSAGES + "?limit=20");
+        clearInvocations(conversationRepo, messageRepo, userRepo, userPrincipalCache);
+
+        mockMvc.perform(get(MESSAGES + "?limit=20").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        verifyNoInteractions(conversationRepo, messageRepo, userRepo, userPrincipalCache);
+
+        mockMvc.perform(get(MESSAGES + "?limit=50").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void creatingAConversationChangesTheListTag() throws Exception {
+        String eTag = currentETag(CONVERSATIONS);
+
+        mockMvc.perform(json(post(CONVERSATIONS), "{\"title\":\"Sleep\"}"))
+                .andExpect(status().isCreated());
+
+        assertChanged(CONVERSATIONS, eTag);
+    }
+
+    @Test
+    void sendingAMessageChangesTheMessagePageTag() throws Exception {
+        String eTag = currentETag(MESSAGES);
+
+        mockMvc.perform(json(post(MESSAGES), "{\"content\":\"I can't sleep\"}"))
+                .andExpect(status().isCreated());
+
+        assertChanged(MESSAGES, eTag);
+    }
+
+    @Test
+    void deletingAConversationChangesBothTags() throws Exception {
+        String listETag = currentETag(CONVERSATIONS);
+        String messagesETag = currentETag(MESSAGES);
+
+        conversationService.deleteConversation(1L);
+
+        assertChanged(CONVERSATIONS, listETag);
+        assertChanged(MESSAGES, messagesETag);
+    }
+
+    @Test
+    void importingChangesTheListTagOfImportedUsers() throws Exception {
+        String eTag = currentETag(CONVERSATIONS);
+
+        mockMvc.perform(json(post(CONVERSATIONS + "/admin/import"), "[{\"userId\":1,\"name\":\"Imported\"}]"))
+                .andExpect(status().isCreated());
+
+        assertChanged(CONVERSATIONS, eTag);
+    }
+
+    private String currentETag(String path) throws Exception {
+        String eTag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+        return eTag;
+    }
+
+    private void assertChanged(String path, String staleETag) throws Exception {
+        ResultActions result = mockMvc.perform(get(path).header("If-None-Match", staleETag))
+                .andExpect(status().isOk());
+        assertNotEquals(staleETag, result.andReturn().getResponse().getHeader("ETag"));
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+}
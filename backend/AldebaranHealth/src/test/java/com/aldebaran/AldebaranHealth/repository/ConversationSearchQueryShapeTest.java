@@ -0,0 +1,43 @@
+package com.aldebaran.AldebaranHealth.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The prefix search only avoids a sort when its ORDER BY is exactly the key of the prefix index
+ * after the user_id equality. Postgres is not available to the unit tests, so this pins the query
+ * and db/indexes.sql to each other instead.
+ */
+class ConversationSearchQueryShapeTest {
+
+    private static final Pattern PREFIX_INDEX = Pattern.compile(
+            "CREATE INDEX IF NOT EXISTS idx_conversation_user_name_prefix_c ON conversation \\((.+)\\);");
+
+    @Test
+    void prefixSearchOrdersByTheIndexKey() throws Exception {
+        String sql = ConversationRepo.class
+                .getMethod("searchUserConversationsByPrefix", Long.class, String.class, Pageable.class)
+                .getAnnotation(Query.class)
+                .value()
+                .replaceAll("\\s+", " ");
+        String indexes = new ClassPathResource("db/indexes.sql").getContentAsString(StandardCharsets.UTF_8);
+
+        Matcher index = PREFIX_INDEX.matcher(indexes);
+        assertTrue(index.find(), indexes);
+        assertEquals("user_id, (lower(name)) COLLATE \"C\", conversation_id", index.group(1));
+
+        assertTrue(sql.contains("WHERE c.user_id = :userId AND lower(c.name) COLLATE \"C\" LIKE :prefix"), sql);
+        assertTrue(sql.endsWith("ORDER BY lower(c.name) COLLATE \"C\", c.conversation_id"), sql);
+        assertFalse(indexes.contains("text_pattern_ops"), indexes);
+    }
+}
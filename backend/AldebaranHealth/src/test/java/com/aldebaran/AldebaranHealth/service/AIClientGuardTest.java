@@ -0,0 +1,192 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AIClientGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void retriesTransientErrorsWithBackoff() {
+        AIClientGuard guard = guard(Duration.ofSeconds(1), 20, Duration.ofSeconds(30));
+        StubUpstream upstream = new StubUpstream();
+        upstream.failNext(2);
+
+        assertEquals("ok", guard.execute(ModelTier.STANDARD, true, upstream::call));
+        assertEquals(3, upstream.calls.get());
+        assertEquals(2, meterRegistry.counter("ai.guard.retries").count());
+    }
+
+    @Test
+    void circuitOpensOnErrorsFailsFastAndRecovers() throws Exception {
+        AIClientGuard guard = guard(Duration.ofSeconds(1), 4, Duration.ofMillis(200));
+        StubUpstream upstream = new StubUpstream();
+        upstream.failNext(Integer.MAX_VALUE);
+
+        for (int i = 0; i < 5 && guard.getCircuitState(ModelTier.STANDARD) != CircuitBreaker.State.OPEN; i++) {
+            assertThrows(AIUnavailableException.class, () -> guard.execute(ModelTier.STANDARD, true, upstream::call));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guard.getCircuitState(ModelTier.STANDARD));
+
+        int callsWhenOpened = upstream.calls.get();
+        assertThrows(AIUnavailableException.class, () -> guard.execute(ModelTier.STANDARD, true, upstream::call));
+        assertEquals(callsWhenOpened, upstream.calls.get());
+        assertTrue(meterRegistry.counter("ai.guard.calls", "outcome", "rejected_open").count() > 0);
+        assertEquals(1, meterRegistry.get("ai.guard.circuit.state").tag("tier", "standard").tag("state", "open").gauge().value());
+
+        Thread.sleep(250);
+        upstream.failNext(0);
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ok", guard.execute(ModelTier.STANDARD, true, upstream::call));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getCircuitState(ModelTier.STANDARD));
+    }
+
+    @Test
+    void failingTierOpensOnlyItsOwnBreaker() {
+        AIClientGuard guard = guard(Duration.ofSeconds(1), 4, Duration.ofSeconds(30));
+        StubUpstream pro = new StubUpstream();
+        pro.failNext(Integer.MAX_VALUE);
+        StubUpstream standard = new StubUpstream();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(AIUnavailableException.class, () -> guard.execute(ModelTier.PRO, false, pro::call));
+            assertEquals("ok", guard.execute(ModelTier.STANDARD, true, standard::call));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, guard.getCircuitState(ModelTier.PRO));
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getCircuitState(ModelTier.STANDARD));
+        assertEquals(2, pro.calls.get());
+        assertEquals(4, standard.calls.get());
+        assertEquals(0, meterRegistry.counter("ai.guard.retries").count());
+    }
+
+    @Test
+    void limitShrinksAndShedsLoadWhenUpstreamSlowsDown() throws Exception {
+        AIClientGuard guard = guard(Duration.ofMillis(20), 20, Duration.ofSeconds(30));
+        StubUpstream upstream = new StubUpstream();
+        upstream.latencyMillis = 50;
+
+        for (int i = 0; i < 10; i++) {
+            guard.execute(ModelTier.STANDARD, true, upstream::call);
+        }
+        assertEquals(2, guard.getConcurrencyLimit());
+        assertEquals(2, meterRegistry.get("ai.guard.limit").gauge().value());
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(executor.submit(() -> guard.execute(ModelTier.STANDARD, true, upstream::call)));
+        }
+
+        int rejected = 0;
+        for (Future<String> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertInstanceOf(AIUnavailableException.class, e.getCause());
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        assertTrue(rejected > 0);
+        assertEquals(rejected, meterRegistry.counter("ai.guard.calls", "outcome", "rejected_limit").count());
+        assertTrue(upstream.peakInFlight.get() <= 2);
+    }
+
+    @Test
+    void streamHoldsItsPermitUntilClosedWhileOtherCallsQueue() throws Exception {
+        AIClientGuard guard = new AIClientGuard(meterRegistry, 1, 1, 1, Duration.ofSeconds(1), Duration.ofSeconds(5), 3,
+                Duration.ofMillis(5), Duration.ofMillis(20), 20, 0.5, Duration.ofSeconds(30));
+        StubUpstream upstream = new StubUpstream();
+
+        AIResponseStream stream = guard.executeStream(ModelTier.STANDARD, true, () -> chunks("Hello", " there"));
+        assertEquals(1, meterRegistry.get("ai.guard.inflight").gauge().value());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> queued = executor.submit(() -> guard.execute(ModelTier.STANDARD, true, upstream::call));
+        assertThrows(TimeoutException.class, () -> queued.get(100, TimeUnit.MILLISECONDS));
+        assertEquals(0, upstream.calls.get());
+
+        List<String> received = new ArrayList<>();
+        stream.forEach(received::add);
+        stream.close();
+
+        assertEquals("ok", queued.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(List.of("Hello", " there"), received);
+        assertEquals(2, meterRegistry.counter("ai.guard.calls", "outcome", "success").count());
+        assertEquals(0, meterRegistry.counter("ai.guard.calls", "outcome", "rejected_limit").count());
+        assertEquals(0, meterRegistry.get("ai.guard.inflight").gauge().value());
+    }
+
+    private AIClientGuard guard(Duration latencyThreshold, int breakerWindow, Duration openDuration) {
+        return new AIClientGuard(meterRegistry, 4, 2, 50, latencyThreshold, Duration.ZERO, 3,
+                Duration.ofMillis(5), Duration.ofMillis(20), breakerWindow, 0.5, openDuration);
+    }
+
+    private static AIResponseStream chunks(String... chunks) {
+        return new AIResponseStream() {
+            @Override
+            public Iterator<String> iterator() {
+                return List.of(chunks).iterator();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static class StubUpstream {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private volatile long latencyMillis;
+
+        void failNext(int failures) {
+            failuresLeft.set(failures);
+        }
+
+        String call() {
+            calls.incrementAndGet();
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                if (latencyMillis > 0) {
+                    Thread.sleep(latencyMillis);
+                }
+                if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                    throw new RuntimeException("503 from stub upstream");
+                }
+                return "ok";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
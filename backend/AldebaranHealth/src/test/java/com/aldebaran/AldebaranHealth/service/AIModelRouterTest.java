@@ -0,0 +1,120 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AIModelRouterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1);
+    private final AIModelRouter aiModelRouter = new AIModelRouter(meterRegistry, true,
+            Map.of(ModelTier.LITE, "lite", ModelTier.STANDARD, "standard", ModelTier.PRO, "pro"), ModelTier.STANDARD,
+            1500, 1200, 4, 0.5, Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofSeconds(30), clock::get);
+
+    @Test
+    void routesByPromptSizeAndUserTier() {
+        assertEquals(ModelTier.LITE, aiModelRouter.route(prompt("Thanks!", 5)).get(0));
+        assertEquals(ModelTier.STANDARD, aiModelRouter.route(prompt("I can't sleep", 5)).get(0));
+        assertEquals(ModelTier.STANDARD, aiModelRouter.route(prompt("I can't sleep", 2000)).get(0));
+        assertEquals(List.of(ModelTier.PRO, ModelTier.STANDARD, ModelTier.LITE),
+                aiModelRouter.route(prompt("I can't sleep", 2000).withUserTier(ModelTier.PRO)));
+        assertEquals(List.of(ModelTier.LITE), aiModelRouter.route(prompt("I can't sleep", 5).withUserTier(ModelTier.LITE)));
+
+        assertEquals(1, meterRegistry.counter("ai.routing.decisions", "tier", "lite", "reason", "trivial").count());
+        assertEquals(1, meterRegistry.counter("ai.routing.decisions", "tier", "standard", "reason", "user_tier").count());
+        assertEquals(1, meterRegistry.counter("ai.routing.decisions", "tier", "lite", "reason", "user_tier").count());
+    }
+
+    @Test
+    void failingTierFallsBehindUntilBreakerRecovers() {
+        for (int i = 0; i < 4; i++) {
+            aiModelRouter.tryAcquire(ModelTier.STANDARD);
+            aiModelRouter.onFailure(ModelTier.STANDARD, Duration.ofSeconds(1).toNanos());
+        }
+
+        assertEquals(List.of(ModelTier.LITE, ModelTier.STANDARD), aiModelRouter.route(prompt("I can't sleep", 5)));
+        assertEquals(1, meterRegistry.counter("ai.routing.decisions", "tier", "lite", "reason", "degraded").count());
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertEquals(ModelTier.STANDARD, aiModelRouter.route(prompt("I can't sleep", 5)).get(0));
+    }
+
+    @Test
+    void slowTierIsAvoidedThenProbed() {
+        aiModelRouter.onSuccess(ModelTier.LITE, Duration.ofSeconds(20).toNanos());
+
+        assertEquals(List.of(ModelTier.STANDARD, ModelTier.LITE), aiModelRouter.route(prompt("ok", 5)));
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertEquals(ModelTier.LITE, aiModelRouter.route(prompt("ok", 5)).get(0));
+    }
+
+    @Test
+    void guardRejectionNeitherFailsTheTierNorFailsOver() {
+        AIProvider aiProvider = mock(AIProvider.class);
+        AIClientGuard aiClientGuard = mock(AIClientGuard.class);
+        when(aiClientGuard.executeStream(any(), anyBoolean(), any())).thenThrow(new AICallRejectedException("AI service is at its concurrency limit"));
+        AIService aiService = new AIService(aiProvider, aiModelRouter, mock(AIResponseCache.class), aiClientGuard, mock(AIRequestHedger.class));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(AICallRejectedException.class, () -> aiService.generateAIResponseStream(prompt("I can't sleep", 5)));
+        }
+
+        verify(aiClientGuard, times(4)).executeStream(any(), anyBoolean(), any());
+        verifyNoInteractions(aiProvider);
+        assertEquals(0, meterRegistry.counter("ai.routing.decisions", "tier", "lite", "reason", "failover").count());
+        assertEquals(ModelTier.STANDARD, aiModelRouter.route(prompt("I can't sleep", 5)).get(0));
+    }
+
+    @Test
+    void failingProTierFailsOverWithoutRetryingWhileStandardKeepsServing() {
+        AIProvider aiProvider = mock(AIProvider.class);
+        when(aiProvider.generateContent(eq("pro"), any(PromptContext.class))).thenThrow(new RuntimeException("503 from pro"));
+        when(aiProvider.generateContent(eq("standard"), any(PromptContext.class))).thenReturn("ok");
+        AIResponseCache aiResponseCache = mock(AIResponseCache.class);
+        when(aiResponseCache.get(any(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(2).get());
+        AIClientGuard aiClientGuard = new AIClientGuard(meterRegistry, 20, 2, 200, Duration.ofSeconds(15), Duration.ofSeconds(1), 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), 4, 0.5, Duration.ofSeconds(30));
+        AIRequestHedger aiRequestHedger = new AIRequestHedger(mock(ExecutorService.class), meterRegistry, false, 0.95, 20, 0.1, Duration.ofMinutes(1));
+        AIService aiService = new AIService(aiProvider, aiModelRouter, aiResponseCache, aiClientGuard, aiRequestHedger);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("ok", aiService.generateAIResponse(prompt("I can't sleep", 2000).withUserTier(ModelTier.PRO)));
+            assertEquals("ok", aiService.generateAIResponse(prompt("I can't sleep", 5)));
+        }
+
+        verify(aiProvider, times(2)).generateContent(eq("pro"), any(PromptContext.class));
+        verify(aiProvider, times(20)).generateContent(eq("standard"), any(PromptContext.class));
+        assertEquals(0, meterRegistry.counter("ai.guard.retries").count());
+        assertEquals(CircuitBreaker.State.CLOSED, aiClientGuard.getCircuitState(ModelTier.STANDARD));
+    }
+
+    private PromptContext prompt(String content, int promptTokens) {
+        Message message = new Message();
+        message.setContent(content);
+        message.setSenderType(SenderType.USER);
+        return new PromptContext(null, List.of(message), promptTokens);
+    }
+}
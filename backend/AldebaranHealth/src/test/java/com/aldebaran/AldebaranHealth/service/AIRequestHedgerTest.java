@@ -0,0 +1,165 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the hedger with latches instead of wall-clock latency: attempts block until the test
+ * releases them or the hedger cancels them, and the hedge delay is seeded through the upstream timer.
+ */
+class AIRequestHedgerTest {
+
+    private static final int MIN_SAMPLES = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService aiExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        aiExecutor.shutdownNow();
+    }
+
+    @Test
+    void primaryFasterThanTheDelayIsNotHedged() {
+        AIRequestHedger hedger = hedger(0.1, Duration.ofSeconds(30));
+
+        assertEquals("primary", hedger.execute(() -> "primary"));
+        assertEquals(0, meterRegistry.counter("ai.hedge.fired").count());
+        assertEquals(MIN_SAMPLES + 1, upstreamTimer().count());
+    }
+
+    @Test
+    void hedgeFiresAfterTheDelayAndCancelsTheSlowPrimary() throws Exception {
+        AIRequestHedger hedger = hedger(1, Duration.ofMillis(20));
+        long delayNanos = (long) (meterRegistry.get("ai.hedge.delay").gauge().value() * 1_000_000);
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        AtomicLong primaryStart = new AtomicLong();
+        AtomicLong hedgeStart = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+
+        String answer = hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                primaryStart.set(System.nanoTime());
+                blockUntilCancelled(primaryCancelled);
+                return "primary";
+            }
+            hedgeStart.set(System.nanoTime());
+            return "hedge";
+        });
+
+        assertEquals("hedge", answer);
+        assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS), "primary was not cancelled");
+        assertTrue(hedgeStart.get() - primaryStart.get() >= delayNanos,
+                "hedge sent " + (hedgeStart.get() - primaryStart.get()) + "ns after the primary, delay " + delayNanos + "ns");
+        assertEquals(1, meterRegistry.counter("ai.hedge.fired").count());
+        assertEquals(1, meterRegistry.counter("ai.hedge.won").count());
+        assertEquals(MIN_SAMPLES + 2, upstreamTimer().count());
+    }
+
+    @Test
+    void primaryAnsweringAfterTheHedgeWinsAndCancelsTheHedge() throws Exception {
+        AIRequestHedger hedger = hedger(1, Duration.ofMillis(20));
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+        CountDownLatch hedgeCancelled = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String answer = hedger.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                await(hedgeStarted);
+                return "primary";
+            }
+            hedgeStarted.countDown();
+            blockUntilCancelled(hedgeCancelled);
+            return "hedge";
+        });
+
+        assertEquals("primary", answer);
+        assertTrue(hedgeCancelled.await(5, TimeUnit.SECONDS), "hedge was not cancelled");
+        assertEquals(1, meterRegistry.counter("ai.hedge.fired").count());
+        assertEquals(0, meterRegistry.counter("ai.hedge.won").count());
+        assertEquals(MIN_SAMPLES + 2, upstreamTimer().count());
+    }
+
+    @Test
+    void hedgesStayWithinTheBudget() throws Exception {
+        AIRequestHedger hedger = hedger(0.5, Duration.ofMillis(20));
+        BlockingQueue<String> answers = new LinkedBlockingQueue<>();
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+
+        try {
+            for (int i = 1; i <= 4; i++) {
+                Future<String> request = clients.submit(() -> hedger.execute(() -> take(answers)));
+                awaitHedgeDecisions(i);
+                answers.add("answer " + i);
+                assertEquals("answer " + i, request.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        assertEquals(2, meterRegistry.counter("ai.hedge.fired").count());
+        assertEquals(2, meterRegistry.counter("ai.hedge.budget.exhausted").count());
+    }
+
+    private AIRequestHedger hedger(double budgetRatio, Duration upstreamLatency) {
+        AIRequestHedger hedger = new AIRequestHedger(aiExecutor, meterRegistry, true, 0.95, MIN_SAMPLES, budgetRatio, Duration.ofMinutes(1));
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            upstreamTimer().record(upstreamLatency);
+        }
+        return hedger;
+    }
+
+    private Timer upstreamTimer() {
+        return meterRegistry.get("ai.hedge.upstream.latency").timer();
+    }
+
+    // Every request either fires a hedge or is refused one, so the two counters together say how many have decided
+    private void awaitHedgeDecisions(int decisions) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("ai.hedge.fired").count() + meterRegistry.counter("ai.hedge.budget.exhausted").count() < decisions) {
+            assertTrue(System.nanoTime() < deadline, "request " + decisions + " never reached the hedge delay");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void blockUntilCancelled(CountDownLatch cancelled) {
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            cancelled.countDown();
+            throw new AIUnavailableException("Cancelled", e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new AIUnavailableException("Interrupted", e);
+        }
+    }
+
+    private static String take(BlockingQueue<String> answers) {
+        try {
+            return answers.take();
+        } catch (InterruptedException e) {
+            throw new AIUnavailableException("Cancelled", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Message;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AIResponseCacheTest {
+
+    private static final String MODEL = "gemini-2.5-flash";
+    private static final int CONCURRENT_PROMPTS = 50;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AIResponseCache aiResponseCache = new AIResponseCache(meterRegistry, true, 100, Duration.ofMinutes(5), 1);
+
+    @Test
+    void concurrentIdenticalPromptsShareOneUpstreamCall() throws Exception {
+        String response = "Try a few slow breaths.";
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_PROMPTS);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_PROMPTS; i++) {
+            String prompt = i % 2 == 0 ? "I feel stressed, what can I do?" : "  i feel STRESSED what can i do  ";
+            results.add(executor.submit(() -> aiResponseCache.get(MODEL, openingPrompt(prompt), () -> {
+                upstreamCalls.incrementAndGet();
+                await(release);
+                return response;
+            })));
+        }
+
+        Thread.sleep(200);
+        release.countDown();
+        for (Future<String> result : results) {
+            assertSame(response, result.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, meterRegistry.counter("ai.cache.requests", "result", "miss").count());
+        assertEquals(CONCURRENT_PROMPTS - 1, meterRegistry.counter("ai.cache.requests", "result", "hit").count()
+                + meterRegistry.counter("ai.cache.requests", "result", "coalesced").count());
+    }
+
+    @Test
+    void personalizedPromptsBypassTheCache() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        PromptContext personalized = openingPrompt("I feel stressed, what can I do?").withoutCaching();
+
+        aiResponseCache.get(MODEL, personalized, () -> countedResponse(upstreamCalls));
+        aiResponseCache.get(MODEL, personalized, () -> countedResponse(upstreamCalls));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(2, meterRegistry.counter("ai.cache.requests", "result", "bypass").count());
+    }
+
+    @Test
+    void differentSummariesDoNotShareResponses() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Message turn = turn("I feel stressed, what can I do?");
+
+        aiResponseCache.get(MODEL, new PromptContext("Works night shifts", List.of(turn), 10), () -> countedResponse(upstreamCalls));
+        aiResponseCache.get(MODEL, new PromptContext("Has a newborn", List.of(turn), 10), () -> countedResponse(upstreamCalls));
+        aiResponseCache.get(MODEL, new PromptContext("Has a newborn", List.of(turn), 10), () -> countedResponse(upstreamCalls));
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private PromptContext openingPrompt(String content) {
+        return new PromptContext(null, List.of(turn(content)), 10);
+    }
+
+    private Message turn(String content) {
+        Message message = new Message();
+        message.setContent(content);
+        message.setSenderType(SenderType.USER);
+        return message;
+    }
+
+    private String countedResponse(AtomicInteger upstreamCalls) {
+        return "Reply " + upstreamCalls.incrementAndGet();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
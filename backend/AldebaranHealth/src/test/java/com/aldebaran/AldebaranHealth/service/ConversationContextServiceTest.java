@@ -0,0 +1,194 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.repository.ConversationRepo;
+import com.aldebaran.AldebaranHealth.repository.MessageRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConversationContextServiceTest {
+
+    private static final int MAX_TURNS = 3;
+    private static final int SUMMARY_BATCH = 4;
+
+    private final List<Message> messages = new ArrayList<>();
+    private final Conversation conversation = new Conversation();
+    private AIService aiService;
+    private ConversationContextService contextService;
+
+    @BeforeEach
+    void setUp() {
+        conversation.setConversationId(1L);
+
+        MessageRepo messageRepo = mock(MessageRepo.class);
+        when(messageRepo.findByConversation_ConversationIdOrderByCreatedAtDescMessageIdDesc(anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> newestFirst(invocation.getArgument(1)));
+        when(messageRepo.findByConversation_ConversationIdOrderByCreatedAtAscMessageIdAsc(anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> oldestAfter(0L, invocation.getArgument(1)));
+        when(messageRepo.findPageAfter(anyLong(), any(Date.class), anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> oldestAfter(invocation.getArgument(2), invocation.getArgument(3)));
+
+        ConversationRepo conversationRepo = mock(ConversationRepo.class);
+        when(conversationRepo.findById(1L)).thenReturn(Optional.of(conversation));
+        doAnswer(invocation -> {
+            conversation.setSummary(invocation.getArgument(1));
+            conversation.setSummaryCreatedAt(invocation.getArgument(2));
+            conversation.setSummaryMessageId(invocation.getArgument(3));
+            return 1;
+        }).when(conversationRepo).updateSummary(anyLong(), any(), any(), any());
+
+        aiService = mock(AIService.class);
+        when(aiService.generateAIResponse(anyString())).thenAnswer(invocation -> "summary #" + messages.size());
+
+        contextService = new ConversationContextService(messageRepo, conversationRepo, aiService, mock(ExecutorService.class),
+                new SimpleMeterRegistry(), MAX_TURNS, 100000, SUMMARY_BATCH);
+    }
+
+    @Test
+    void contextIsOldestFirstAndCappedAtTheRecentWindow() {
+        for (int i = 1; i <= 10; i++) {
+            add(i % 2 == 1 ? SenderType.USER : SenderType.AI, "message " + i);
+        }
+
+        PromptContext context = contextService.buildContext(conversation);
+
+        assertNull(context.getSummary());
+        assertEquals(List.of("message 5", "message 6", "message 7", "message 8", "message 9", "message 10"), contents(context.getTurns()));
+    }
+
+    @Test
+    void contextSkipsFailurePlaceholders() {
+        add(SenderType.USER, "I can't sleep");
+        add(SenderType.AI, MessageService.AI_FAILED_MESSAGE);
+        add(SenderType.USER, "I can't sleep at all");
+
+        PromptContext context = contextService.buildContext(conversation);
+
+        assertEquals(List.of("I can't sleep", "I can't sleep at all"), contents(context.getTurns()));
+    }
+
+    @Test
+    void contextStopsAtTheSummaryCursor() {
+        for (int i = 1; i <= 4; i++) {
+            add(i % 2 == 1 ? SenderType.USER : SenderType.AI, "message " + i);
+        }
+        Message summarized = messages.get(1);
+        conversation.setSummary("earlier");
+        conversation.setSummaryCreatedAt(summarized.getCreatedAt());
+        conversation.setSummaryMessageId(summarized.getMessageId());
+
+        PromptContext context = contextService.buildContext(conversation);
+
+        assertEquals("earlier", context.getSummary());
+        assertEquals(List.of("message 3", "message 4"), contents(context.getTurns()));
+    }
+
+    @Test
+    void nothingIsSummarizedWhileTheHistoryFitsTheWindow() {
+        for (int i = 1; i <= MAX_TURNS * 2; i++) {
+            add(i % 2 == 1 ? SenderType.USER : SenderType.AI, "message " + i);
+        }
+
+        contextService.refreshSummary(1L);
+
+        verify(aiService, never()).generateAIResponse(anyString());
+        assertNull(conversation.getSummaryMessageId());
+    }
+
+    @Test
+    void summaryFoldsExactlyWhatFellOutOfTheWindow() {
+        for (int i = 1; i <= MAX_TURNS * 2 + 2; i++) {
+            add(i % 2 == 1 ? SenderType.USER : SenderType.AI, "message " + i);
+        }
+
+        contextService.refreshSummary(1L);
+
+        ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+        verify(aiService).generateAIResponse(prompt.capture());
+        assertTrue(prompt.getValue().contains("User: message 1\nAssistant: message 2\n"), prompt.getValue());
+        assertFalse(prompt.getValue().contains("message 3"), prompt.getValue());
+        assertEquals(messages.get(1).getMessageId(), conversation.getSummaryMessageId());
+    }
+
+    @Test
+    void summaryCatchesUpInBatchesAndLeavesOutPlaceholders() {
+        for (int i = 1; i <= 17; i++) {
+            add(i % 2 == 1 ? SenderType.USER : SenderType.AI, i == 4 ? MessageService.AI_FAILED_MESSAGE : "message " + i);
+        }
+
+        contextService.refreshSummary(1L);
+
+        ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+        verify(aiService, times(3)).generateAIResponse(prompt.capture());
+        assertTrue(prompt.getAllValues().stream().noneMatch(value -> value.contains(MessageService.AI_FAILED_MESSAGE)));
+        assertEquals(messages.get(17 - MAX_TURNS * 2 - 1).getMessageId(), conversation.getSummaryMessageId());
+    }
+
+    @Test
+    void everyMessageIsInTheSummaryOrThePrompt() {
+        for (int i = 1; i <= 40; i++) {
+            add(SenderType.USER, "question " + i);
+            add(SenderType.AI, i % 5 == 0 ? MessageService.AI_FAILED_MESSAGE : "answer " + i);
+            contextService.refreshSummary(1L);
+
+            List<Message> turns = contextService.buildContext(conversation).getTurns();
+            for (Message message : messages) {
+                boolean summarized = conversation.getSummaryMessageId() != null && message.getMessageId() <= conversation.getSummaryMessageId();
+                boolean placeholder = MessageService.AI_FAILED_MESSAGE.equals(message.getContent());
+                assertTrue(summarized || placeholder || turns.contains(message),
+                        "message " + message.getMessageId() + " missing after " + messages.size() + " messages");
+            }
+        }
+    }
+
+    private void add(SenderType senderType, String content) {
+        Message message = new Message();
+        message.setMessageId((long) messages.size() + 1);
+        message.setConversation(conversation);
+        message.setSenderType(senderType);
+        message.setContent(content);
+        message.setCreatedAt(new Date(1_000_000L + messages.size() * 1000L));
+        messages.add(message);
+    }
+
+    private List<Message> newestFirst(Limit limit) {
+        List<Message> newest = new ArrayList<>(messages.subList(Math.max(0, messages.size() - limit.max()), messages.size()));
+        return newest.reversed();
+    }
+
+    private List<Message> oldestAfter(long messageId, Limit limit) {
+        return messages.stream()
+                .filter(message -> message.getMessageId() > messageId)
+                .limit(limit.max())
+                .toList();
+    }
+
+    private static List<String> contents(List<Message> turns) {
+        return turns.stream().map(Message::getContent).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.OutputStream;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false"
+})
+@Import(ExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ExportServiceMemoryTest {
+
+    private static final int MESSAGES = 5_000;
+    private static final int CONTENT_BYTES = 256;
+    private static final long START_MILLIS = 1_704_067_200_000L;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ExportService exportService;
+
+    @MockitoBean
+    private UserPrincipalCache userPrincipalCache;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUserName("exporter");
+        user.setEmail("exporter@aldebaran.health");
+        user.setPassword("hash");
+        entityManager.persist(user);
+        userId = user.getUserId();
+
+        Conversation conversation = new Conversation();
+        conversation.setName("Export");
+        conversation.setUser(user);
+        conversation.setSessionType(SessionType.DOCTOR);
+        conversation.setCreatedAt(new Date());
+        entityManager.persist(conversation);
+        entityManager.flush();
+
+        entityManager.createNativeQuery("INSERT INTO message (message_id, content, sender_type, created_at, conversation_id) " +
+                        "SELECT NEXT VALUE FOR message_seq, REPEAT('x', " + CONTENT_BYTES + "), 'USER', DATEADD('SECOND', X, CAST(:start AS TIMESTAMP)), :conversationId " +
+                        "FROM SYSTEM_RANGE(1, " + MESSAGES + ")")
+                .setParameter("start", new Date(START_MILLIS))
+                .setParameter("conversationId", conversation.getConversationId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void messageExportKeepsThePersistenceContextBounded() throws Exception {
+        PersistenceContextSamplingOutputStream outputStream = new PersistenceContextSamplingOutputStream(entityManager.unwrap(Session.class));
+
+        long exported = exportService.exportMessages(null, null, userId, outputStream);
+
+        assertEquals(MESSAGES, exported);
+        assertEquals(MESSAGES, outputStream.lines);
+        assertTrue(outputStream.peakEntities <= ExportService.FLUSH_EVERY_ROWS + 1,
+                outputStream.peakEntities + " managed entities during export");
+    }
+
+    @Test
+    void messageExportAppliesDateRange() throws Exception {
+        PersistenceContextSamplingOutputStream outputStream = new PersistenceContextSamplingOutputStream(entityManager.unwrap(Session.class));
+
+        long exported = exportService.exportMessages(new Date(START_MILLIS + 1_000L), new Date(START_MILLIS + 101_000L), userId, outputStream);
+
+        assertEquals(100, exported);
+        assertEquals(100, outputStream.lines);
+    }
+
+    /**
+     * Counts exported lines and records the most entities the session held when a line ended.
+     */
+    private static class PersistenceContextSamplingOutputStream extends OutputStream {
+        private final Session session;
+        private int peakEntities;
+        private long lines;
+
+        PersistenceContextSamplingOutputStream(Session session) {
+            this.session = session;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+                peakEntities = Math.max(peakEntities, session.getStatistics().getEntityCount());
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.dto.response.MessagePageResponse;
+import com.aldebaran.AldebaranHealth.dto.response.MessageResponse;
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.util.MessageCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Keyset pages over seven messages where messages 3, 4 and 5 share one timestamp, so every
+ * cursor comparison has to fall back to the message id.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import({MessageService.class, ResourceVersionService.class, MessagePageTest.MetricsConfig.class})
+class MessagePageTest {
+
+    private static final long BASE_TIME = 1_700_000_000_000L;
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MessageService messageService;
+
+    @MockitoBean
+    private UserPrincipalCache userPrincipalCache;
+
+    @MockitoBean
+    private AIService aiService;
+
+    @MockitoBean
+    private ConversationContextService conversationContextService;
+
+    @MockitoBean
+    private ExecutorService aiExecutor;
+
+    private Long conversationId;
+    private final List<Message> messages = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUserName("pager");
+        user.setEmail("pager@aldebaran.health");
+        user.setPassword("hash");
+        entityManager.persist(user);
+
+        Conversation conversation = persistConversation(user);
+        Conversation otherConversation = persistConversation(user);
+        conversationId = conversation.getConversationId();
+
+        long[] offsets = {0, 1, 2, 2, 2, 3, 4};
+        for (int i = 0; i < offsets.length; i++) {
+            messages.add(persistMessage(conversation, "message " + (i + 1), BASE_TIME + offsets[i]));
+            persistMessage(otherConversation, "other " + (i + 1), BASE_TIME + offsets[i]);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void latestPageIsOldestFirstAndReportsMore() {
+        MessagePageResponse page = messageService.getMessagePage(conversationId, 3, null, null);
+
+        assertEquals(List.of("message 5", "message 6", "message 7"), contents(page));
+        assertTrue(page.isHasMore());
+        assertEquals(MessageCursor.encode(messages.get(4).getCreatedAt(), messages.get(4).getMessageId()), page.getBeforeCursor());
+        assertEquals(MessageCursor.encode(messages.get(6).getCreatedAt(), messages.get(6).getMessageId()), page.getAfterCursor());
+    }
+
+    @Test
+    void walkingBackVisitsEveryMessageOnceAcrossTies() {
+        List<String> seen = new ArrayList<>();
+        MessagePageResponse page = messageService.getMessagePage(conversationId, 2, null, null);
+        seen.addAll(0, contents(page));
+        while (page.isHasMore()) {
+            page = messageService.getMessagePage(conversationId, 2, page.getBeforeCursor(), null);
+            seen.addAll(0, contents(page));
+        }
+
+        assertEquals(List.of("message 1", "message 2", "message 3", "message 4", "message 5", "message 6", "message 7"), seen);
+    }
+
+    @Test
+    void beforeCursorInsideATieReturnsTheEarlierTiedMessages() {
+        Message tied = messages.get(4);
+        MessagePageResponse page = messageService.getMessagePage(conversationId, 2, MessageCursor.encode(tied.getCreatedAt(), tied.getMessageId()), null);
+
+        assertEquals(List.of("message 3", "message 4"), contents(page));
+        assertTrue(page.isHasMore());
+    }
+
+    @Test
+    void afterCursorInsideATieReturnsOnlyNewerMessages() {
+        Message tied = messages.get(3);
+        MessagePageResponse page = messageService.getMessagePage(conversationId, 50, null, MessageCursor.encode(tied.getCreatedAt(), tied.getMessageId()));
+
+        assertEquals(List.of("message 5", "message 6", "message 7"), contents(page));
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void afterCursorPagesForwardWithHasMore() {
+        Message first = messages.get(0);
+        MessagePageResponse page = messageService.getMessagePage(conversationId, 3, null, MessageCursor.encode(first.getCreatedAt(), first.getMessageId()));
+
+        assertEquals(List.of("message 2", "message 3", "message 4"), contents(page));
+        assertTrue(page.isHasMore());
+
+        page = messageService.getMessagePage(conversationId, 3, null, page.getAfterCursor());
+        assertEquals(List.of("message 5", "message 6", "message 7"), contents(page));
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void limitIsClampedAndDefaulted() {
+        assertEquals(List.of("message 7"), contents(messageService.getMessagePage(conversationId, 0, null, null)));
+        assertEquals(7, messageService.getMessagePage(conversationId, null, null, null).getMessages().size());
+        assertFalse(messageService.getMessagePage(conversationId, 1000, null, null).isHasMore());
+    }
+
+    @Test
+    void rejectsBothCursorsAndMalformedCursors() {
+        String cursor = MessageCursor.encode(new Date(BASE_TIME), 1L);
+
+        assertThrows(IllegalArgumentException.class, () -> messageService.getMessagePage(conversationId, 10, cursor, cursor));
+        assertThrows(IllegalArgumentException.class, () -> messageService.getMessagePage(conversationId, 10, "not-a-cursor", null));
+    }
+
+    private Conversation persistConversation(User user) {
+        Conversation conversation = new Conversation();
+        conversation.setName("Paging");
+        conversation.setUser(user);
+        entityManager.persist(conversation);
+        return conversation;
+    }
+
+    private Message persistMessage(Conversation conversation, String content, long createdAt) {
+        Message message = new Message();
+        message.setContent(content);
+        message.setSenderType(SenderType.USER);
+        message.setCreatedAt(new Date(createdAt));
+        message.setConversation(conversation);
+        entityManager.persist(message);
+        return message;
+    }
+
+    private static List<String> contents(MessagePageResponse page) {
+        return page.getMessages().stream().map(MessageResponse::getContent).toList();
+    }
+}
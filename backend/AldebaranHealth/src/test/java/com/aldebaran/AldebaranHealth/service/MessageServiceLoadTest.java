@@ -0,0 +1,85 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.config.GeminiAIConfig;
+import com.aldebaran.AldebaranHealth.dto.request.MessageRequest;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.repository.ConversationRepo;
+import com.aldebaran.AldebaranHealth.repository.MessageRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MessageServiceLoadTest {
+
+    private static final int PLATFORM_THREAD_CAP = 200;
+    private static final int CONCURRENT_SENDS = 1000;
+
+    @Test
+    void concurrentSendsScalePastPlatformThreadCap() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        AtomicInteger platformThreadCalls = new AtomicInteger();
+        CountDownLatch allInFlight = new CountDownLatch(CONCURRENT_SENDS);
+
+        AIService aiService = mock(AIService.class);
+        when(aiService.generateAIResponse(any(PromptContext.class))).thenAnswer(invocation -> {
+            if (!Thread.currentThread().isVirtual()) {
+                platformThreadCalls.incrementAndGet();
+            }
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            allInFlight.countDown();
+            allInFlight.await(30, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            return "Take a deep breath.";
+        });
+
+        Conversation conversation = new Conversation();
+        conversation.setConversationId(1L);
+        conversation.setCreatedAt(new Date());
+
+        ConversationRepo conversationRepo = mock(ConversationRepo.class);
+        when(conversationRepo.findById(anyLong())).thenReturn(Optional.of(conversation));
+
+        MessageRepo messageRepo = mock(MessageRepo.class);
+        when(messageRepo.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ConversationContextService conversationContextService = mock(ConversationContextService.class);
+        when(conversationContextService.buildContext(any())).thenAnswer(invocation -> new PromptContext(null, List.of(new Message()), 16));
+
+        ExecutorService virtualExecutor = new GeminiAIConfig().aiExecutor(true);
+        MessageService messageService = new MessageService(messageRepo, conversationRepo, aiService, conversationContextService, virtualExecutor,
+                mock(ResourceVersionService.class), new SimpleMeterRegistry());
+
+        List<Future<?>> sends = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_SENDS; i++) {
+            MessageRequest messageRequest = new MessageRequest("I feel stressed " + i, new Date());
+            sends.add(virtualExecutor.submit(() -> messageService.createMessage(1L, messageRequest, null)));
+        }
+
+        for (Future<?> send : sends) {
+            send.get(60, TimeUnit.SECONDS);
+        }
+        virtualExecutor.shutdown();
+
+        assertEquals(0, platformThreadCalls.get());
+        assertEquals(CONCURRENT_SENDS, peakInFlight.get());
+        assertTrue(peakInFlight.get() > PLATFORM_THREAD_CAP);
+    }
+}
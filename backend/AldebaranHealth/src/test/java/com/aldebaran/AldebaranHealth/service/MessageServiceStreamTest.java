@@ -0,0 +1,173 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.controller.MessageController;
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.repository.ConversationRepo;
+import com.aldebaran.AldebaranHealth.repository.MessageRepo;
+import com.aldebaran.AldebaranHealth.util.AuthenticationUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class MessageServiceStreamTest {
+
+    private final BlockingQueue<Message> savedMessages = new LinkedBlockingQueue<>();
+    private AIService aiService;
+    private ExecutorService aiExecutor;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        Conversation conversation = new Conversation();
+        conversation.setConversationId(1L);
+        conversation.setCreatedAt(new Date());
+
+        ConversationRepo conversationRepo = mock(ConversationRepo.class);
+        when(conversationRepo.findById(anyLong())).thenReturn(Optional.of(conversation));
+
+        MessageRepo messageRepo = mock(MessageRepo.class);
+        when(messageRepo.save(any(Message.class))).thenAnswer(invocation -> {
+            Message message = invocation.getArgument(0);
+            message.setMessageId((long) savedMessages.size() + 1);
+            savedMessages.add(message);
+            return message;
+        });
+
+        ConversationContextService conversationContextService = mock(ConversationContextService.class);
+        when(conversationContextService.buildContext(any())).thenReturn(new PromptContext(null, List.of(), 0));
+
+        aiService = mock(AIService.class);
+        aiExecutor = Executors.newSingleThreadExecutor();
+        MessageService messageService = new MessageService(messageRepo, conversationRepo, aiService, conversationContextService, aiExecutor,
+                mock(ResourceVersionService.class), new SimpleMeterRegistry());
+        mockMvc = MockMvcBuilders.standaloneSetup(new MessageController(messageService, mock(ResourceVersionService.class), mock(AuthenticationUtil.class)))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiExecutor.shutdownNow();
+    }
+
+    @Test
+    void streamsTokensThenDoneAndStoresTheReply() throws Exception {
+        when(aiService.generateAIResponseStream(any())).thenReturn(stream(List.of("Try a ", "slow breath."), null, null));
+
+        MvcResult mvcResult = startStream();
+        mvcResult.getAsyncResult(5000);
+
+        String body = mvcResult.getResponse().getContentAsString();
+        assertTrue(body.contains("event:token\ndata:Try a \n\nevent:token\ndata:slow breath.\n\n"), body);
+        assertTrue(body.contains("event:done\ndata:{"), body);
+        assertTrue(body.contains("\"content\":\"Try a slow breath.\""), body);
+
+        assertEquals(SenderType.USER, nextSaved().getSenderType());
+        Message aiMessage = nextSaved();
+        assertEquals(SenderType.AI, aiMessage.getSenderType());
+        assertEquals("Try a slow breath.", aiMessage.getContent());
+    }
+
+    @Test
+    void clientCancelStopsTheStreamAndKeepsWhatWasSent() throws Exception {
+        CountDownLatch firstTokenSent = new CountDownLatch(1);
+        CountDownLatch clientGone = new CountDownLatch(1);
+        when(aiService.generateAIResponseStream(any())).thenReturn(stream(List.of("Try a ", "slow breath."), firstTokenSent, clientGone));
+
+        MvcResult mvcResult = startStream();
+        assertEquals(SenderType.USER, nextSaved().getSenderType());
+        assertTrue(firstTokenSent.await(5, TimeUnit.SECONDS));
+
+        mvcResult.getRequest().getAsyncContext().complete();
+        clientGone.countDown();
+
+        Message aiMessage = nextSaved();
+        assertEquals(SenderType.AI, aiMessage.getSenderType());
+        assertEquals("Try a", aiMessage.getContent());
+
+        String body = mvcResult.getResponse().getContentAsString();
+        assertFalse(body.contains("slow breath"), body);
+        assertFalse(body.contains("event:done"), body);
+    }
+
+    private MvcResult startStream() throws Exception {
+        return mockMvc.perform(post("/conversation/1/messages/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content("{\"content\":\"I can't sleep\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private Message nextSaved() throws InterruptedException {
+        Message message = savedMessages.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message, "message was not saved");
+        return message;
+    }
+
+    /**
+     * Yields {@code tokens} in order. With latches, signals {@code firstTokenSent} when the second
+     * token is requested (the first has been sent by then) and holds it until {@code release}.
+     */
+    private static AIResponseStream stream(List<String> tokens, CountDownLatch firstTokenSent, CountDownLatch release) {
+        return new AIResponseStream() {
+            @Override
+            public Iterator<String> iterator() {
+                Iterator<String> delegate = tokens.iterator();
+                return new Iterator<>() {
+                    private int position;
+
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        if (position++ == 1 && firstTokenSent != null) {
+                            firstTokenSent.countDown();
+                            try {
+                                release.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        return delegate.next();
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
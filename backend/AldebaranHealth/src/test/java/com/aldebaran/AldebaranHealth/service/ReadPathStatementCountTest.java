@@ -0,0 +1,153 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.dto.response.ConversationResponse;
+import com.aldebaran.AldebaranHealth.dto.response.MessagePageResponse;
+import com.aldebaran.AldebaranHealth.enums.ModelTier;
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.enums.SessionType;
+import com.aldebaran.AldebaranHealth.model.Conversation;
+import com.aldebaran.AldebaranHealth.model.Message;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.model.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ConversationService.class, MessageService.class, ExportService.class, ResourceVersionService.class, ReadPathStatementCountTest.MetricsConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ReadPathStatementCountTest {
+
+    private static final int CONVERSATIONS = 5;
+    private static final int MESSAGES_PER_CONVERSATION = 10;
+    private static final String EMAIL = "reader@aldebaran.health";
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ConversationService conversationService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private ExportService exportService;
+
+    @MockitoBean
+    private UserPrincipalCache userPrincipalCache;
+
+    @MockitoBean
+    private AIService aiService;
+
+    @MockitoBean
+    private ConversationContextService conversationContextService;
+
+    @MockitoBean
+    private ExecutorService aiExecutor;
+
+    private Statistics statistics;
+    private Long conversationId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUserName("reader");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        user.setModelTier(ModelTier.STANDARD);
+        entityManager.persist(user);
+
+        for (int c = 0; c < CONVERSATIONS; c++) {
+            Conversation conversation = new Conversation();
+            conversation.setName("Conversation " + c);
+            conversation.setUser(user);
+            conversation.setSessionType(SessionType.DOCTOR);
+            entityManager.persist(conversation);
+            conversationId = conversation.getConversationId();
+
+            for (int m = 0; m < MESSAGES_PER_CONVERSATION; m++) {
+                Message message = new Message();
+                message.setContent("Message " + m);
+                message.setSenderType(m % 2 == 0 ? SenderType.USER : SenderType.AI);
+                message.setCreatedAt(new Date(1_700_000_000_000L + m));
+                message.setConversation(conversation);
+                entityManager.persist(message);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Principals are served from memory in production, so the lookup is not part of the budget
+        when(userPrincipalCache.findByEmail(EMAIL)).thenReturn(Optional.of(UserPrincipal.of(user)));
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void conversationListReadsOnce() {
+        List<ConversationResponse> responses = conversationService.getConversationsByUser(EMAIL).stream()
+                .map(ConversationResponse::new)
+                .toList();
+
+        assertEquals(CONVERSATIONS, responses.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void messageHistoryReadsExistenceCheckAndOnePage() {
+        MessagePageResponse page = messageService.getMessagePage(conversationId, MESSAGES_PER_CONVERSATION / 2, null, null);
+        MessagePageResponse olderPage = messageService.getMessagePage(conversationId, MESSAGES_PER_CONVERSATION / 2, page.getBeforeCursor(), null);
+
+        assertEquals(MESSAGES_PER_CONVERSATION / 2, page.getMessages().size());
+        assertEquals(MESSAGES_PER_CONVERSATION / 2, olderPage.getMessages().size());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void adminConversationExportReadsOnce() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = exportService.exportConversations(null, null, null, outputStream);
+
+        assertEquals(CONVERSATIONS, exported);
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).contains("\"messageCount\":" + MESSAGES_PER_CONVERSATION));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,158 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.config.StressBatchConfig;
+import com.aldebaran.AldebaranHealth.dto.response.StressBatchResponse;
+import com.aldebaran.AldebaranHealth.enums.BatchStatus;
+import com.aldebaran.AldebaranHealth.model.StressAssessment;
+import com.aldebaran.AldebaranHealth.model.User;
+import com.aldebaran.AldebaranHealth.repository.StressAssessmentRepo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "stress.batch.chunk-size=" + StressBatchServiceTest.CHUNK_SIZE,
+        "stress.batch.max-rows=" + StressBatchServiceTest.MAX_ROWS
+})
+@Import({StressBatchService.class, StressScoringService.class, StressClassifier.class, StressLookupTable.class, StressBatchConfig.class})
+class StressBatchServiceTest {
+
+    static final int CHUNK_SIZE = 250;
+    static final int MAX_ROWS = 1_000;
+
+    @Autowired
+    private StressBatchService stressBatchService;
+
+    @Autowired
+    private StressAssessmentRepo stressAssessmentRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private UserPrincipalCache userPrincipalCache;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUserName("researcher");
+        user.setEmail("researcher@aldebaran.health");
+        user.setPassword("hash");
+        entityManager.persist(user);
+        userId = user.getUserId();
+    }
+
+    @Test
+    void scoresSavesAndStreamsEveryRowInOrder() throws Exception {
+        String csv = "id,q1,q2,q3,q4,q5,q6,q7,q8,q9,q10\n"
+                + "p-1,0,0,0,4,4,0,4,4,0,0\n"
+                + "\n"
+                + "\"p,2\",4,4,4,0,0,4,0,0,4,4\n"
+                + "p-3,4,4,4,0,0,4,0,0,4,9\n"
+                + "p-4,1,2\n";
+
+        StressBatchService.Upload upload = stressBatchService.startBatch(userId, stream(csv));
+        ByteArrayOutputStream results = new ByteArrayOutputStream();
+        StressBatchResponse response = stressBatchService.processBatch(upload, results);
+
+        assertEquals(BatchStatus.COMPLETED, response.getStatus());
+        assertEquals(4, response.getRowsRead());
+        assertEquals(2, response.getAssessmentsSaved());
+        assertEquals(2, response.getRowsRejected());
+        assertEquals(2, stressAssessmentRepo.countByBatchId(upload.getBatchId()));
+
+        String[] lines = results.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, lines.length);
+        assertTrue(lines[1].startsWith("2,p-1,"), lines[1]);
+        assertTrue(lines[1].contains(",0,LOW,LOW,"), lines[1]);
+        assertTrue(lines[2].startsWith("4,\"p,2\","), lines[2]);
+        assertTrue(lines[2].contains(",40,HIGH,HIGH,"), lines[2]);
+        assertTrue(lines[3].startsWith("5,p-3,,,,,,,,,"), lines[3]);
+        assertTrue(lines[3].endsWith("Response 10 must be between 0 and 4"), lines[3]);
+        assertTrue(lines[4].endsWith("\"Expected 11 columns, found 3\""), lines[4]);
+
+        StressAssessment saved = stressAssessmentRepo.findAll().stream()
+                .filter(assessment -> "p,2".equals(assessment.getExternalId()))
+                .findFirst().orElseThrow();
+        assertEquals("4440040044", saved.getResponses());
+        assertEquals(userId, saved.getUser().getUserId());
+    }
+
+    @Test
+    void rejectsUploadWithoutQuestionColumns() {
+        assertThrows(IllegalArgumentException.class, () -> stressBatchService.startBatch(userId, stream("id,q1,q2\n1,0,0\n")));
+        assertThrows(IllegalArgumentException.class, () -> stressBatchService.startBatch(userId, stream("")));
+    }
+
+    @Test
+    void progressIsVisibleOnlyToTheUploader() throws Exception {
+        StressBatchService.Upload upload = stressBatchService.startBatch(userId, stream("q1,q2,q3,q4,q5,q6,q7,q8,q9,q10\n"));
+
+        assertEquals(BatchStatus.RUNNING, stressBatchService.getProgress(upload.getBatchId(), userId).orElseThrow().getStatus());
+        assertTrue(stressBatchService.getProgress(upload.getBatchId(), userId + 1).isEmpty());
+    }
+
+    @Test
+    void savesEveryRowAcrossChunks() throws Exception {
+        StressBatchService.Upload upload = stressBatchService.startBatch(userId, stream(randomCsv(MAX_ROWS)));
+        ByteArrayOutputStream results = new ByteArrayOutputStream();
+        StressBatchResponse response = stressBatchService.processBatch(upload, results);
+
+        assertEquals(BatchStatus.COMPLETED, response.getStatus());
+        assertEquals(MAX_ROWS, response.getAssessmentsSaved());
+        assertEquals(MAX_ROWS, stressAssessmentRepo.countByBatchId(upload.getBatchId()));
+
+        String[] lines = results.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(MAX_ROWS + 1, lines.length);
+        assertTrue(lines[MAX_ROWS].startsWith((MAX_ROWS + 1) + "," + (MAX_ROWS - 1) + ","), lines[MAX_ROWS]);
+    }
+
+    @Test
+    void stopsAtTheRowLimit() throws Exception {
+        StressBatchService.Upload upload = stressBatchService.startBatch(userId, stream(randomCsv(MAX_ROWS + CHUNK_SIZE)));
+        ByteArrayOutputStream results = new ByteArrayOutputStream();
+        StressBatchResponse response = stressBatchService.processBatch(upload, results);
+
+        assertEquals(BatchStatus.FAILED, response.getStatus());
+        assertEquals(MAX_ROWS, response.getRowsRead());
+        assertEquals(MAX_ROWS, stressAssessmentRepo.countByBatchId(upload.getBatchId()));
+        assertEquals("Upload exceeds the limit of " + MAX_ROWS + " rows", stressBatchService.getProgress(upload.getBatchId(), userId).orElseThrow().getError());
+
+        String[] lines = results.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(MAX_ROWS + 2, lines.length);
+        assertTrue(lines[MAX_ROWS + 1].endsWith("Upload exceeds the limit of " + MAX_ROWS + " rows"), lines[MAX_ROWS + 1]);
+    }
+
+    private static String randomCsv(int rows) {
+        Random random = new Random(42);
+        StringBuilder csv = new StringBuilder("id,q1,q2,q3,q4,q5,q6,q7,q8,q9,q10\n");
+        for (int row = 0; row < rows; row++) {
+            csv.append(row);
+            for (int q = 0; q < 10; q++) {
+                csv.append(',').append(random.nextInt(5));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
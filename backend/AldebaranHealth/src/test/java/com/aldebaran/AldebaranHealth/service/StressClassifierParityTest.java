@@ -0,0 +1,108 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.StressLevel;
+import com.aldebaran.AldebaranHealth.util.PSS10Scorer;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the Java engine with StressAnalyzer.predict_stress on the cases exported by
+ * {@code ai/aldebaran-stress-predictor/export_model.py}.
+ */
+class StressClassifierParityTest {
+
+    private static final double PROBABILITY_TOLERANCE = 1e-12;
+
+    private final StressClassifier stressClassifier = new StressClassifier(new ClassPathResource("models/stress-classifier.bin"));
+
+    @Test
+    void matchesPythonScoresLevelsAndProbabilities() throws Exception {
+        List<String[]> cases = readParityCases();
+        assertTrue(cases.size() > 2000, "parity fixture looks truncated: " + cases.size());
+
+        int[] responses = new int[PSS10Scorer.QUESTION_COUNT];
+        int[] features = new int[PSS10Scorer.FEATURE_COUNT];
+        double[] probabilities = new double[stressClassifier.getClassCount()];
+        double[] expectedProbabilities = new double[stressClassifier.getClassCount()];
+
+        for (String[] row : cases) {
+            for (int i = 0; i < responses.length; i++) {
+                responses[i] = Integer.parseInt(row[i]);
+            }
+            int score = PSS10Scorer.score(responses);
+            PSS10Scorer.features(responses, score, features);
+            int predicted = stressClassifier.predict(features, probabilities);
+
+            String vector = String.join(",", List.of(row).subList(0, responses.length));
+            assertEquals(Integer.parseInt(row[10]), score, vector);
+            assertEquals(level(row[11]), PSS10Scorer.level(score), vector);
+            assertEquals(level(row[12]), stressClassifier.classAt(predicted), vector);
+            for (int c = 0; c < expectedProbabilities.length; c++) {
+                expectedProbabilities[c] = Double.parseDouble(row[13 + c]);
+            }
+            assertArrayEquals(expectedProbabilities, probabilities, PROBABILITY_TOLERANCE, vector);
+        }
+    }
+
+    @Test
+    void rejectsInvalidAnswersAndCorruptModels() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> PSS10Scorer.score(new int[]{0, 1, 2, 3, 4, 0, 1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> PSS10Scorer.score(new int[]{0, 1, 2, 3, 4, 0, 1, 2, 3, 5}));
+
+        byte[] model = new ClassPathResource("models/stress-classifier.bin").getContentAsByteArray();
+        model[model.length / 2] ^= 1;
+        assertThrows(IllegalStateException.class, () -> new StressClassifier(new ByteArrayResource(model)));
+    }
+
+    @Test
+    void provenanceDescribesTheCommittedArtifacts() throws Exception {
+        Properties provenance = new Properties();
+        try (InputStream inputStream = new ClassPathResource("models/stress-classifier.provenance").getInputStream()) {
+            provenance.load(inputStream);
+        }
+
+        assertEquals(sha256("models/stress-classifier.bin"), provenance.getProperty("model.sha256"));
+        assertEquals(sha256("stress/pss10-parity.csv"), provenance.getProperty("parity.sha256"));
+    }
+
+    private static String sha256(String resource) throws Exception {
+        byte[] content = new ClassPathResource(resource).getContentAsByteArray();
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    private List<String[]> readParityCases() throws Exception {
+        List<String[]> cases = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("stress/pss10-parity.csv").getInputStream(), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            assertTrue(header.endsWith("p_high,p_low,p_moderate"), header);
+            assertArrayEquals(new StressLevel[]{StressLevel.HIGH, StressLevel.LOW, StressLevel.MODERATE}, stressClassifier.getClasses());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                cases.add(line.split(","));
+            }
+        }
+        return cases;
+    }
+
+    private static StressLevel level(String name) {
+        return StressLevel.valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
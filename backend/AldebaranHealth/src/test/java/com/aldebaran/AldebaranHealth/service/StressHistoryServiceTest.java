@@ -0,0 +1,124 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.dto.response.StressTrendResponse;
+import com.aldebaran.AldebaranHealth.enums.RollupPeriod;
+import com.aldebaran.AldebaranHealth.enums.StressLevel;
+import com.aldebaran.AldebaranHealth.model.StressAssessment;
+import com.aldebaran.AldebaranHealth.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "stress.history.zone=UTC"
+})
+@Import({StressHistoryService.class, StressScoringService.class, StressClassifier.class, StressLookupTable.class})
+class StressHistoryServiceTest {
+
+    private static final int[] LOW_ANSWERS = {0, 0, 0, 4, 4, 0, 4, 4, 0, 0};
+    private static final int[] HIGH_ANSWERS = {4, 4, 4, 0, 0, 4, 0, 0, 4, 4};
+
+    @Autowired
+    private StressHistoryService stressHistoryService;
+
+    @Autowired
+    private StressScoringService stressScoringService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private UserPrincipalCache userPrincipalCache;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUserName("checker");
+        user.setEmail("checker@aldebaran.health");
+        user.setPassword("hash");
+        entityManager.persist(user);
+        userId = user.getUserId();
+    }
+
+    @Test
+    void rollsAssessmentsIntoDayWeekAndMonth() {
+        record(LOW_ANSWERS, LocalDate.of(2026, 3, 2), 9);
+        record(HIGH_ANSWERS, LocalDate.of(2026, 3, 2), 18);
+        record(HIGH_ANSWERS, LocalDate.of(2026, 3, 4), 8);
+        record(LOW_ANSWERS, LocalDate.of(2026, 3, 2), 7);
+
+        List<StressTrendResponse> days = stressHistoryService.getTrend(userId, RollupPeriod.DAY, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+        assertEquals(2, days.size());
+        assertEquals(LocalDate.of(2026, 3, 2), days.get(0).getPeriodStart());
+        assertEquals(3, days.get(0).getAssessmentCount());
+        assertEquals(13.3, days.get(0).getMeanScore());
+        assertEquals(2, days.get(0).getLevelDistribution().get(StressLevel.LOW));
+        assertEquals(1, days.get(0).getLevelDistribution().get(StressLevel.HIGH));
+        assertEquals(40, days.get(0).getLastScore());
+        assertEquals(StressLevel.HIGH, days.get(0).getLastLevel());
+
+        List<StressTrendResponse> weeks = stressHistoryService.getTrend(userId, RollupPeriod.WEEK, LocalDate.of(2026, 3, 4), LocalDate.of(2026, 3, 4));
+        assertEquals(1, weeks.size());
+        assertEquals(LocalDate.of(2026, 3, 2), weeks.get(0).getPeriodStart());
+        assertEquals(4, weeks.get(0).getAssessmentCount());
+        assertEquals(20.0, weeks.get(0).getMeanScore());
+        assertEquals(40, weeks.get(0).getLastScore());
+
+        List<StressTrendResponse> months = stressHistoryService.getTrend(userId, RollupPeriod.MONTH, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+        assertEquals(1, months.size());
+        assertEquals(LocalDate.of(2026, 3, 1), months.get(0).getPeriodStart());
+        assertEquals(4, months.get(0).getAssessmentCount());
+    }
+
+    @Test
+    void yearsOfDailyCheckInsAreOneIndexedRead() {
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        LocalDate end = LocalDate.of(2025, 12, 31);
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            record(day.getDayOfMonth() % 2 == 0 ? LOW_ANSWERS : HIGH_ANSWERS, day, 8);
+            if (day.getDayOfMonth() == 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<StressTrendResponse> days = stressHistoryService.getTrend(userId, RollupPeriod.DAY, start, end);
+        List<StressTrendResponse> months = stressHistoryService.getTrend(userId, RollupPeriod.MONTH, start, end);
+
+        int dayCount = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        assertEquals(dayCount, days.size());
+        assertEquals(36, months.size());
+        assertEquals(dayCount, months.stream().mapToInt(StressTrendResponse::getAssessmentCount).sum());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private void record(int[] answers, LocalDate day, int hour) {
+        StressAssessment assessment = stressScoringService.assess(answers);
+        assessment.setCreatedAt(Date.from(day.atTime(hour, 0).toInstant(ZoneOffset.UTC)));
+        stressHistoryService.recordAssessment(userId, assessment);
+    }
+}
@@ -0,0 +1,83 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.util.PSS10Scorer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds a table with only the last 5^7 answer vectors evaluated (every vector starting with three
+ * 4s, up to all 4s), which keeps the file format and checksums real without the full sweep. The
+ * full table is generated by {@code mvn -Pstress-table package}.
+ */
+class StressLookupTableTest {
+
+    private static final int SAMPLES = 20_000;
+    private static final int EVALUATED_VECTORS = 78_125;
+    private static final int FROM_INDEX = StressLookupTable.VECTOR_COUNT - EVALUATED_VECTORS;
+    private static final double QUANTIZATION_ERROR = 0.5 / 255 + 1e-12;
+
+    @TempDir
+    static Path tempDir;
+
+    private static StressClassifier stressClassifier;
+    private static Path tablePath;
+
+    @BeforeAll
+    static void generateTable() throws Exception {
+        stressClassifier = new StressClassifier(new ClassPathResource("models/stress-classifier.bin"));
+        tablePath = tempDir.resolve("stress-lookup.bin");
+        StressLookupTable.generate(stressClassifier, tablePath, FROM_INDEX, StressLookupTable.VECTOR_COUNT);
+    }
+
+    @Test
+    void lookupsMatchTheClassifier() {
+        StressLookupTable stressLookupTable = new StressLookupTable(tablePath.toString(), stressClassifier);
+        assertTrue(stressLookupTable.isAvailable());
+
+        int[] responses = new int[PSS10Scorer.QUESTION_COUNT];
+        int[] features = new int[PSS10Scorer.FEATURE_COUNT];
+        double[] expected = new double[stressClassifier.getClassCount()];
+        double[] actual = new double[stressClassifier.getClassCount()];
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            int index = sample < 2 ? FROM_INDEX + sample * (EVALUATED_VECTORS - 1) : random.nextInt(FROM_INDEX, StressLookupTable.VECTOR_COUNT);
+            StressLookupTable.responses(index, responses);
+            assertEquals(index, StressLookupTable.index(responses));
+            PSS10Scorer.features(responses, PSS10Scorer.score(responses), features);
+
+            assertEquals(stressClassifier.predict(features, expected), stressLookupTable.lookup(responses, actual));
+            for (int c = 0; c < expected.length; c++) {
+                assertEquals(expected[c], actual[c], QUANTIZATION_ERROR);
+            }
+        }
+    }
+
+    @Test
+    void rejectsCorruptTablesAndDisablesWithoutAPath() throws Exception {
+        assertFalse(new StressLookupTable("", stressClassifier).isAvailable());
+
+        Path corrupt = tempDir.resolve("corrupt.bin");
+        Files.copy(tablePath, corrupt);
+        try (RandomAccessFile file = new RandomAccessFile(corrupt.toFile(), "rw")) {
+            file.seek(file.length() / 2);
+            int value = file.read();
+            file.seek(file.length() / 2);
+            file.write(value ^ 1);
+        }
+        assertThrows(IllegalStateException.class, () -> new StressLookupTable(corrupt.toString(), stressClassifier));
+        assertThrows(IllegalArgumentException.class, () -> StressLookupTable.index(new int[]{0, 1, 2, 3, 4, 5, 0, 1, 2, 3}));
+    }
+}
@@ -0,0 +1,67 @@
+package com.aldebaran.AldebaranHealth.service;
+
+import com.aldebaran.AldebaranHealth.enums.SenderType;
+import com.aldebaran.AldebaranHealth.model.Message;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StubAIProviderTest {
+
+    private static final String MODEL = "gemini-2.5-flash";
+
+    @Test
+    void echoStreamsReplyInTimedChunks() {
+        StubAIProvider stubAIProvider = stub("echo", Duration.ZERO, 0, Duration.ofMillis(20));
+        PromptContext promptContext = new PromptContext(null, List.of(turn("I cannot sleep at night")), 8);
+
+        List<String> chunks = new ArrayList<>();
+        long startTime = System.nanoTime();
+        try (AIResponseStream responseStream = stubAIProvider.generateContentStream(MODEL, promptContext)) {
+            responseStream.forEach(chunks::add);
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+
+        assertEquals(List.of("Echo: I cannot ", "sleep at night"), chunks);
+        assertEquals("Echo: I cannot sleep at night", stubAIProvider.generateContent(MODEL, promptContext));
+        assertTrue(elapsedMillis >= 20, "chunks arrived after " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void failsAtConfiguredErrorRate() {
+        StubAIProvider alwaysFailing = stub("canned", Duration.ZERO, 1.0, Duration.ZERO);
+        StubAIProvider neverFailing = stub("canned", Duration.ZERO, 0, Duration.ZERO);
+
+        assertThrows(RuntimeException.class, () -> alwaysFailing.generateContent(MODEL, "hello"));
+        assertEquals("Canned reply", neverFailing.generateContent(MODEL, "hello"));
+    }
+
+    @Test
+    void latencyFollowsConfiguredMedian() {
+        StubAIProvider stubAIProvider = stub("canned", Duration.ofMillis(30), 0, Duration.ZERO);
+
+        long startTime = System.nanoTime();
+        stubAIProvider.generateContent(MODEL, "hello");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+
+        assertTrue(elapsedMillis >= 30, "call took " + elapsedMillis + "ms");
+    }
+
+    private StubAIProvider stub(String mode, Duration median, double errorRate, Duration chunkDelay) {
+        return new StubAIProvider(mode, "Canned reply", median, 0, 0, Duration.ofSeconds(5), Duration.ofSeconds(30),
+                errorRate, 3, chunkDelay);
+    }
+
+    private Message turn(String content) {
+        Message message = new Message();
+        message.setContent(content);
+        message.setSenderType(SenderType.USER);
+        return message;
+    }
+}
@@ -23,12 +23,12 @@ function App() {
           <Route element={<Home />} path="/" />
           <Route element={<About />} path="/about" />
           <Route element={<Services />} path="/services" />
-          <Route element={<StressAnalysis />} path="/stress-analysis"/>
           <Route element={<HealthCare />} path="/healthcare"/>
           
           <Route element={<ProtectedRoute />}>
             <Route element={<Conversation />} path="/conversation" />
             <Route element={<Conversation />} path="/conversation/:conversationId/messages" />
+            <Route element={<StressAnalysis />} path="/stress-analysis"/>
           </Route>
         </Routes>
       </Router>
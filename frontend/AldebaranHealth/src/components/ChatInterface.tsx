@@ -45,8 +45,8 @@ export function ChatInterface({ className }: ChatInterfaceProps) {
   const fetchMessages = async (id: number) => {
     setIsLoading(true);
     try {
-      const conversationMessages = await messageService.getConversationMessages(id);
-      setMessages(conversationMessages);
+      const messagePage = await messageService.getConversationMessages(id);
+      setMessages(messagePage.messages);
       console.log("Successfully get conversation messages");
     } catch (error: any) {
       console.error("Failed to fetch messages:", error?.message);
@@ -68,11 +68,11 @@ export function ChatInterface({ className }: ChatInterfaceProps) {
     setNewMessage("");
 
     try {
-      const responseMessages = await messageService.createMessage(
+      const createdMessages = await messageService.createMessage(
         parseInt(conversationId),
         messageRequest, 
       );
-      setMessages((prev) => [...prev, responseMessages]);
+      setMessages((prev) => [...prev, ...createdMessages.messages]);
       
       console.log("Message has been sent successfully");
     } catch (error: any) {
@@ -1,19 +1,55 @@
 import React, { useState, useEffect } from 'react';
 import { Card, CardContent, CardHeader } from '@/components/ui/card';
 import { motion, AnimatePresence } from 'framer-motion';
-import { Brain, CheckCircle, AlertTriangle, Activity, TrendingUp, Users, Award, Loader2 } from 'lucide-react';
-import type { Question, AnalysisResults } from '@/types/stress';
+import { Brain, CheckCircle, AlertTriangle, Activity, TrendingUp, History, Loader2 } from 'lucide-react';
+import type { Question, RollupPeriod, StressAnalysisResponse, StressLevel, StressTrendResponse } from '@/types/stress';
+import stressServices from '@/services/stressServices';
 import Navbar from '@/components/Navbar';
 import Footer from '@/components/Footer';
 
+const questions: Question[] = [
+  { id: 1, question: "In the last month, how often have you been upset because of something that happened unexpectedly?" },
+  { id: 2, question: "In the last month, how often have you felt that you were unable to control the important things in your life?" },
+  { id: 3, question: "In the last month, how often have you felt nervous and stressed?" },
+  { id: 4, question: "In the last month, how often have you felt confident about your ability to handle your personal problems?" },
+  { id: 5, question: "In the last month, how often have you felt that things were going your way?" },
+  { id: 6, question: "In the last month, how often have you found that you could not cope with all the things that you had to do?" },
+  { id: 7, question: "In the last month, how often have you been able to control irritations in your life?" },
+  { id: 8, question: "In the last month, how often have you felt that you were on top of things?" },
+  { id: 9, question: "In the last month, how often have you been angered because of things that were outside of your control?" },
+  { id: 10, question: "In the last month, how often have you felt difficulties were piling up so high that you could not overcome them?" }
+];
+
+const stressLevels: StressLevel[] = ['LOW', 'MODERATE', 'HIGH'];
+
+const trendPeriods: { value: RollupPeriod; label: string }[] = [
+  { value: 'DAY', label: 'Daily' },
+  { value: 'WEEK', label: 'Weekly' },
+  { value: 'MONTH', label: 'Monthly' }
+];
+
+const trendStart = (period: RollupPeriod) => {
+  const start = new Date();
+  switch (period) {
+    case 'DAY': start.setDate(start.getDate() - 29); break;
+    case 'WEEK': start.setDate(start.getDate() - 7 * 11); break;
+    case 'MONTH': start.setMonth(start.getMonth() - 11, 1); break;
+  }
+  const month = String(start.getMonth() + 1).padStart(2, '0');
+  const day = String(start.getDate()).padStart(2, '0');
+  return `${start.getFullYear()}-${month}-${day}`;
+};
+
 const StressAnalysis: React.FC = () => {
   const [currentStep, setCurrentStep] = useState<'intro' | 'questionnaire' | 'results'>('intro');
-  const [questions, setQuestions] = useState<Question[]>([]);
   const [responses, setResponses] = useState<number[]>(new Array(10).fill(-1));
   const [currentQuestionIndex, setCurrentQuestionIndex] = useState(0);
   const [isLoading, setIsLoading] = useState(false);
-  const [results, setResults] = useState<AnalysisResults | null>(null);
+  const [results, setResults] = useState<StressAnalysisResponse | null>(null);
   const [error, setError] = useState<string | null>(null);
+  const [trendPeriod, setTrendPeriod] = useState<RollupPeriod>('DAY');
+  const [trend, setTrend] = useState<StressTrendResponse[]>([]);
+  const [trendError, setTrendError] = useState<string | null>(null);
 
   const responseOptions = [
     { value: 0, label: "Never" },
@@ -35,40 +71,19 @@ const StressAnalysis: React.FC = () => {
   ];
 
 
-  useEffect(() => {
-    const fetchQuestions = async () => {
-      try {
-        const response = await fetch('http://localhost:5000/api/questions');
-        if (!response.ok) {
-          throw new Error(`HTTP error! status: ${response.status}`);
-        }
-        const data = await response.json();
-        if (data.success) {
-          setQuestions(data.data.questions);
-        } else {
-          throw new Error(data.error || 'Failed to fetch questions');
-        }
-      } catch (err) {
-        console.error('Error fetching questions:', err);
-        setError('Failed to load questionnaire. Please check if the Flask server is running on port 5000.');
-
-        setQuestions([
-          { id: 1, question: "In the last month, how often have you been upset because of something that happened unexpectedly?" },
-          { id: 2, question: "In the last month, how often have you felt that you were unable to control the important things in your life?" },
-          { id: 3, question: "In the last month, how often have you felt nervous and stressed?" },
-          { id: 4, question: "In the last month, how often have you felt confident about your ability to handle your personal problems?" },
-          { id: 5, question: "In the last month, how often have you felt that things were going your way?" },
-          { id: 6, question: "In the last month, how often have you found that you could not cope with all the things that you had to do?" },
-          { id: 7, question: "In the last month, how often have you been able to control irritations in your life?" },
-          { id: 8, question: "In the last month, how often have you felt that you were on top of things?" },
-          { id: 9, question: "In the last month, how often have you been angered because of things that were outside of your control?" },
-          { id: 10, question: "In the last month, how often have you felt difficulties were piling up so high that you could not overcome them?" }
-        ]);
-      }
-    };
+  const loadTrend = async (period: RollupPeriod) => {
+    try {
+      setTrend(await stressServices.getStressHistory(period, trendStart(period)));
+      setTrendError(null);
+    } catch (err) {
+      console.error('Error loading stress history:', err);
+      setTrendError('Failed to load your stress history.');
+    }
+  };
 
-    fetchQuestions();
-  }, []);
+  useEffect(() => {
+    loadTrend(trendPeriod);
+  }, [trendPeriod]);
 
   const handleResponseSelect = (value: number) => {
     const newResponses = [...responses];
@@ -96,32 +111,10 @@ const StressAnalysis: React.FC = () => {
     setError(null);
 
     try {
-      const response = await fetch('http://localhost:5000/api/analyze', {
-        method: 'POST',
-        headers: {
-          'Content-Type': 'application/json',
-        },
-        body: JSON.stringify({
-          responses: responses,
-          user_info: {
-            timestamp: new Date().toISOString(),
-            browser: navigator.userAgent
-          }
-        })
-      });
-
-      if (!response.ok) {
-        throw new Error(`HTTP error! status: ${response.status}`);
-      }
-
-      const data = await response.json();
-      
-      if (data.success) {
-        setResults(data.data);
-        setCurrentStep('results');
-      } else {
-        throw new Error(data.error || 'Analysis failed');
-      }
+      const data = await stressServices.analyzeStress({ responses });
+      setResults(data);
+      setCurrentStep('results');
+      loadTrend(trendPeriod);
     } catch (err) {
       console.error('Error submitting analysis:', err);
       setError('Failed to analyze responses. Please check your connection and try again.');
@@ -138,20 +131,29 @@ const StressAnalysis: React.FC = () => {
     setError(null);
   };
 
-  const getStressLevelColor = (level: string) => {
+  const getStressLevelColor = (level: StressLevel) => {
     switch (level) {
-      case 'low': return 'text-green-600 bg-green-50';
-      case 'moderate': return 'text-yellow-600 bg-yellow-50';
-      case 'high': return 'text-red-600 bg-red-50';
+      case 'LOW': return 'text-green-600 bg-green-50';
+      case 'MODERATE': return 'text-yellow-600 bg-yellow-50';
+      case 'HIGH': return 'text-red-600 bg-red-50';
       default: return 'text-gray-600 bg-gray-50';
     }
   };
 
-  const getStressLevelIcon = (level: string) => {
+  const getStressLevelBar = (level: StressLevel) => {
     switch (level) {
-      case 'low': return <CheckCircle className="w-6 h-6 text-green-600" />;
-      case 'moderate': return <AlertTriangle className="w-6 h-6 text-yellow-600" />;
-      case 'high': return <AlertTriangle className="w-6 h-6 text-red-600" />;
+      case 'LOW': return 'bg-green-500';
+      case 'MODERATE': return 'bg-yellow-500';
+      case 'HIGH': return 'bg-red-500';
+      default: return 'bg-gray-400';
+    }
+  };
+
+  const getStressLevelIcon = (level: StressLevel) => {
+    switch (level) {
+      case 'LOW': return <CheckCircle className="w-6 h-6 text-green-600" />;
+      case 'MODERATE': return <AlertTriangle className="w-6 h-6 text-yellow-600" />;
+      case 'HIGH': return <AlertTriangle className="w-6 h-6 text-red-600" />;
       default: return <Activity className="w-6 h-6 text-gray-600" />;
     }
   };
@@ -254,9 +256,8 @@ const StressAnalysis: React.FC = () => {
                         <button
                           onClick={() => setCurrentStep('questionnaire')}
                           className={`w-full bg-gradient-to-r ${service.gradient} text-white py-4 px-6 rounded-xl font-semibold text-lg hover:shadow-lg transform hover:scale-105 transition-all duration-200`}
-                          disabled={questions.length === 0}
                         >
-                          {questions.length === 0 ? 'Loading Questions...' : 'Start Analysis'}
+                          Start Analysis
                         </button>
 
                         {error && (
@@ -399,24 +400,24 @@ const StressAnalysis: React.FC = () => {
                 <CardHeader>
                   <div className="flex items-center justify-between">
                     <h3 className="text-2xl font-bold text-gray-900">Stress Level Assessment</h3>
-                    {getStressLevelIcon(results.pss10_results.stress_level)}
+                    {getStressLevelIcon(results.stressLevel)}
                   </div>
                 </CardHeader>
                 <CardContent className="space-y-6">
                   {/* PSS-10 Score */}
-                  <div className={`p-6 rounded-xl ${getStressLevelColor(results.pss10_results.stress_level)}`}>
+                  <div className={`p-6 rounded-xl ${getStressLevelColor(results.stressLevel)}`}>
                     <div className="flex items-center justify-between">
                       <div>
                         <div className="text-3xl font-bold">
-                          {results.pss10_results.total_score}/40
+                          {results.pss10Score}/{results.maxPossibleScore}
                         </div>
                         <div className="text-lg font-medium capitalize">
-                          {results.pss10_results.stress_description}
+                          {results.stressLevel.toLowerCase()} stress
                         </div>
                       </div>
                       <div className="text-right">
                         <div className="text-2xl font-bold">
-                          {results.pss10_results.percentage}%
+                          {results.percentage}%
                         </div>
                         <div className="text-sm">Stress Intensity</div>
                       </div>
@@ -431,96 +432,30 @@ const StressAnalysis: React.FC = () => {
                     </h4>
                     <div className="flex items-center justify-between">
                       <span className="text-lg font-medium text-blue-800 capitalize">
-                        {results.ml_prediction.predicted_level} Stress Level
+                        {results.predictedLevel.toLowerCase()} Stress Level
                       </span>
                       <span className="text-sm text-blue-600">
-                        {Math.round(results.ml_prediction.confidence * 100)}% Confidence
+                        {Math.round(results.confidence * 100)}% Confidence
                       </span>
                     </div>
-                  </div>
-                </CardContent>
-              </Card>
-
-              {/* Analysis Details */}
-              <div className="grid md:grid-cols-2 gap-6">
-                {/* Concerns */}
-                {results.analysis.key_concerns.length > 0 && (
-                  <Card className="bg-white shadow-lg border-0">
-                    <CardHeader>
-                      <h4 className="font-semibold text-gray-900 flex items-center">
-                        <AlertTriangle className="w-5 h-5 mr-2 text-red-500" />
-                        Key Concerns
-                      </h4>
-                    </CardHeader>
-                    <CardContent>
-                      <div className="space-y-2">
-                        {results.analysis.key_concerns.map((concern, index) => (
-                          <div key={index} className="bg-red-50 p-3 rounded-lg text-red-800 text-sm">
-                            {concern}
+                    <div className="mt-4 space-y-2">
+                      {stressLevels.map((level) => (
+                        <div key={level} className="flex items-center space-x-3">
+                          <span className="w-20 text-sm text-blue-800 capitalize">{level.toLowerCase()}</span>
+                          <div className="flex-1 bg-blue-100 rounded-full h-2">
+                            <div
+                              className={`${getStressLevelBar(level)} h-2 rounded-full`}
+                              style={{ width: `${Math.round(results.probabilities[level] * 100)}%` }}
+                            />
                           </div>
-                        ))}
-                      </div>
-                    </CardContent>
-                  </Card>
-                )}
-
-                {/* Strengths */}
-                {results.analysis.strengths.length > 0 && (
-                  <Card className="bg-white shadow-lg border-0">
-                    <CardHeader>
-                      <h4 className="font-semibold text-gray-900 flex items-center">
-                        <Award className="w-5 h-5 mr-2 text-green-500" />
-                        Your Strengths
-                      </h4>
-                    </CardHeader>
-                    <CardContent>
-                      <div className="space-y-2">
-                        {results.analysis.strengths.map((strength, index) => (
-                          <div key={index} className="bg-green-50 p-3 rounded-lg text-green-800 text-sm">
-                            {strength}
-                          </div>
-                        ))}
-                      </div>
-                    </CardContent>
-                  </Card>
-                )}
-              </div>
-
-              {/* Recommendations */}
-              <Card className="bg-white shadow-lg border-0">
-                <CardHeader>
-                  <h4 className="font-semibold text-gray-900 flex items-center">
-                    <Users className="w-5 h-5 mr-2 text-blue-500" />
-                    Personalized Recommendations
-                  </h4>
-                </CardHeader>
-                <CardContent>
-                  <div className="space-y-3">
-                    {results.recommendations.map((recommendation, index) => (
-                      <div key={index} className="flex items-start space-x-3">
-                        <div className="w-6 h-6 bg-blue-100 rounded-full flex items-center justify-center flex-shrink-0 mt-0.5">
-                          <span className="text-xs font-medium text-blue-600">{index + 1}</span>
+                          <span className="w-12 text-right text-sm text-blue-600">{Math.round(results.probabilities[level] * 100)}%</span>
                         </div>
-                        <p className="text-gray-700">{recommendation}</p>
-                      </div>
-                    ))}
+                      ))}
+                    </div>
                   </div>
                 </CardContent>
               </Card>
 
-              {/* Risk Assessment */}
-              <Card className={`shadow-lg border-0 ${getStressLevelColor(results.risk_assessment.level)}`}>
-                <CardHeader>
-                  <h4 className="font-semibold flex items-center">
-                    <Activity className="w-5 h-5 mr-2" />
-                    Risk Assessment
-                  </h4>
-                </CardHeader>
-                <CardContent>
-                  <p className="font-medium text-lg">{results.risk_assessment.urgency}</p>
-                </CardContent>
-              </Card>
-
               {/* Action Buttons */}
               <div className="flex justify-center space-x-4">
                 <button
@@ -540,6 +475,59 @@ const StressAnalysis: React.FC = () => {
           )}
         </AnimatePresence>
 
+        {/* Stress Trend */}
+        {currentStep !== 'questionnaire' && (
+          <Card className="bg-white shadow-lg border-0 mt-8">
+            <CardHeader>
+              <div className="flex items-center justify-between">
+                <h4 className="font-semibold text-gray-900 flex items-center">
+                  <History className="w-5 h-5 mr-2 text-blue-500" />
+                  Your Stress Trend
+                </h4>
+                <div className="flex space-x-2">
+                  {trendPeriods.map((period) => (
+                    <button
+                      key={period.value}
+                      onClick={() => setTrendPeriod(period.value)}
+                      className={`px-3 py-1 rounded-lg text-sm font-medium transition-colors ${
+                        trendPeriod === period.value
+                          ? 'bg-blue-600 text-white'
+                          : 'border border-gray-300 text-gray-700 hover:bg-gray-50'
+                      }`}
+                    >
+                      {period.label}
+                    </button>
+                  ))}
+                </div>
+              </div>
+            </CardHeader>
+            <CardContent>
+              {trendError ? (
+                <p className="text-red-700 text-sm">{trendError}</p>
+              ) : trend.length === 0 ? (
+                <p className="text-gray-600 text-sm">No check-ins yet. Your trend appears here after your first analysis.</p>
+              ) : (
+                <div className="space-y-2">
+                  {trend.map((point) => (
+                    <div key={point.periodStart} className="flex items-center space-x-3">
+                      <span className="w-24 text-sm text-gray-600">{point.periodStart}</span>
+                      <div className="flex-1 bg-gray-100 rounded-full h-3">
+                        <div
+                          className={`${getStressLevelBar(point.lastLevel)} h-3 rounded-full`}
+                          style={{ width: `${(point.meanScore / 40) * 100}%` }}
+                        />
+                      </div>
+                      <span className="w-28 text-right text-sm text-gray-700">
+                        {point.meanScore}/40 · {point.assessmentCount} {point.assessmentCount === 1 ? 'check-in' : 'check-ins'}
+                      </span>
+                    </div>
+                  ))}
+                </div>
+              )}
+            </CardContent>
+          </Card>
+        )}
+
       </div>
 
       {/* Footer */}
@@ -1,7 +1,7 @@
 import api from "@/config/api";
-import type { MessageRequest, MessageResponse } from "@/types/message";
+import type { MessagePageResponse, MessageRequest, MessageResponse } from "@/types/message";
 
-async function createMessage(conversationId: number, data: MessageRequest): Promise<MessageResponse> {
+async function createMessage(conversationId: number, data: MessageRequest): Promise<MessagePageResponse> {
     try {
         const response = await api.post(`/conversation/${conversationId}/messages`, data);
         console.log("Successfully create a message ✅");
@@ -13,9 +13,9 @@ async function createMessage(conversationId: number, data: MessageRequest): Prom
     }
 }
 
-async function getConversationMessages(conversationId: number): Promise<MessageResponse[]> {
+async function getConversationMessages(conversationId: number, before?: string): Promise<MessagePageResponse> {
     try {
-        const response = await api.get(`/conversation/${conversationId}/messages/all`);
+        const response = await api.get(`/conversation/${conversationId}/messages`, { params: { before } });
         console.log("Successfully get all messages ✅");
 
         return response.data;
@@ -27,7 +27,7 @@ async function getConversationMessages(conversationId: number): Promise<MessageR
 
 async function getAllMessages(): Promise<MessageResponse> {
     try {
-        const response = await api.get(`/conversation/messages/all`);
+        const response = await api.get(`/conversation/admin/messages/export`);
         console.log("Successfully get all messages ✅");
 
         return response.data;
@@ -0,0 +1,29 @@
+import api from "@/config/api";
+import type { RollupPeriod, StressAnalysisRequest, StressAnalysisResponse, StressTrendResponse } from "@/types/stress";
+
+async function analyzeStress(data: StressAnalysisRequest): Promise<StressAnalysisResponse> {
+    try {
+        const response = await api.post("/stress/analyze", data);
+        console.log("Successfully analyze stress ✅");
+        return response.data;
+    } catch (error: any) {
+        console.error("Failed to analyze stress ❌", error);
+        throw error;
+    }
+}
+
+async function getStressHistory(period: RollupPeriod, from?: string, to?: string): Promise<StressTrendResponse[]> {
+    try {
+        const response = await api.get("/stress/history", { params: { period, from, to } });
+        console.log(`Successfully get ${period.toLowerCase()} stress history ✅`);
+        return Array.isArray(response.data) ? response.data : [];
+    } catch (error: any) {
+        console.error(`Failed to get ${period.toLowerCase()} stress history ❌`, error);
+        throw error;
+    }
+}
+
+export default {
+    analyzeStress,
+    getStressHistory
+}
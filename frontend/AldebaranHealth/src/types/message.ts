@@ -12,10 +12,19 @@ export interface Message {
 export interface MessageRequest {
     content: string;
     createdAt: string;
+    personalized?: boolean;
 }
 
 export interface MessageResponse {
+    messageId: number;
     content: string;
     senderType?: 'AI' | 'USER';
     createdAt: string;
+}
+
+export interface MessagePageResponse {
+    messages: MessageResponse[];
+    beforeCursor: string | null;
+    afterCursor: string | null;
+    hasMore: boolean;
 }
\ No newline at end of file
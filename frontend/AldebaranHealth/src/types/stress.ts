@@ -5,41 +5,33 @@ export interface Question {
   category?: string;
 }
 
-export interface PSS10Results {
-  total_score: number;
-  stress_level: string;
-  stress_description: string;
-  color: string;
-  max_possible_score: number;
+export type StressLevel = 'LOW' | 'MODERATE' | 'HIGH';
+
+export type RollupPeriod = 'DAY' | 'WEEK' | 'MONTH';
+
+export interface StressAnalysisRequest {
+  responses: number[];
+}
+
+export interface StressAnalysisResponse {
+  assessmentId: number;
+  assessedAt: string;
+  pss10Score: number;
+  maxPossibleScore: number;
   percentage: number;
+  stressLevel: StressLevel;
+  predictedLevel: StressLevel;
+  confidence: number;
+  probabilities: Record<StressLevel, number>;
 }
 
-export interface AnalysisResults {
-  pss10_results: PSS10Results;
-  ml_prediction: {
-    predicted_level: string;
-    confidence: number;
-    probabilities: Record<string, number>;
-  };
-  analysis: {
-    high_stress_indicators: Array<{
-      question_id: number;
-      category: string;
-      concern: string;
-    }>;
-    positive_indicators: Array<{
-      question_id: number;
-      category: string;
-      strength: string;
-    }>;
-    key_concerns: string[];
-    strengths: string[];
-  };
-  recommendations: string[];
-  risk_assessment: {
-    level: string;
-    urgency: string;
-    color: string;
-  };
-  timestamp: string;
-}
\ No newline at end of file
+export interface StressTrendResponse {
+  period: RollupPeriod;
+  periodStart: string;
+  assessmentCount: number;
+  meanScore: number;
+  levelDistribution: Record<StressLevel, number>;
+  lastScore: number;
+  lastLevel: StressLevel;
+  lastAssessedAt: string;
+}